@@ -0,0 +1,55 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import br.com.infnet.edur.usermanagement.utils.etag.EntityTags;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+public class EncodedResponse {
+    
+    private static final String GZIP = "gzip";
+    
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String eTag;
+    
+    public EncodedResponse(byte[] body, byte[] gzipBody) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.eTag = EntityTags.fromBody(body);
+    }
+    
+    public ResponseEntity<byte[]> toResponseEntity(String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = gzipBody != null && acceptsGzip(acceptEncoding);
+        String tag = gzip ? eTag.substring(0, eTag.length() - 1) + "-" + GZIP + "\"" : eTag;
+        if (EntityTags.matches(ifNoneMatch, tag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(tag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(gzipBody);
+        }
+        return response.body(body);
+    }
+    
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
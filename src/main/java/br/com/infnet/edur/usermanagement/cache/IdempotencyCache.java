@@ -0,0 +1,35 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class IdempotencyCache {
+    
+    private final AsyncCache<String, IdempotentResponse> cache;
+    
+    public IdempotencyCache(@Value("${idempotency.maximum-size:100000}") long maximumSize,
+                            @Value("${idempotency.ttl:24h}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+    }
+    
+    public CompletableFuture<IdempotentResponse> putIfAbsent(String key, CompletableFuture<IdempotentResponse> pending) {
+        return cache.asMap().putIfAbsent(key, pending);
+    }
+    
+    public void remove(String key, CompletableFuture<IdempotentResponse> pending) {
+        cache.asMap().remove(key, pending);
+    }
+    
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+}
\ No newline at end of file
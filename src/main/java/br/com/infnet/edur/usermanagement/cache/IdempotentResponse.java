@@ -0,0 +1,12 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IdempotentResponse {
+    
+    private final String requestHash;
+    private final byte[] body;
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.CacheStatsDTO;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ProductCache {
+    
+    private final ProductRepository productRepository;
+    private final Cache<Long, Product> cache;
+    
+    public ProductCache(ProductRepository productRepository,
+                        @Value("${products.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${products.cache.ttl:10m}") Duration ttl) {
+        this.productRepository = productRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+    
+    public Optional<Product> findById(Long id) {
+        return Optional.ofNullable(cache.get(id, key -> productRepository.findById(key).orElse(null)));
+    }
+    
+    public Map<Long, Product> findAllById(Collection<Long> ids) {
+        return cache.getAll(ids, missingIds -> productRepository.findAllById(new ArrayList<Long>(missingIds)).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity())));
+    }
+    
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+    
+    public CacheStatsDTO stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDTO(stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                stats.hitRate(), cache.estimatedSize());
+    }
+}
\ No newline at end of file
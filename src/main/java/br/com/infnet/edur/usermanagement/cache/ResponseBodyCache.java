@@ -0,0 +1,69 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class ResponseBodyCache {
+    
+    private final ObjectMapper objectMapper;
+    private final Cache<String, EncodedResponse> cache;
+    private final Map<ResponseRegion, AtomicLong> generations = new EnumMap<>(ResponseRegion.class);
+    private final int gzipMinSize;
+    
+    public ResponseBodyCache(ObjectMapper objectMapper,
+                             @Value("${response-cache.maximum-size:1000}") long maximumSize,
+                             @Value("${response-cache.ttl:10m}") Duration ttl,
+                             @Value("${response-cache.gzip-min-size:1024}") int gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        for (ResponseRegion region : ResponseRegion.values()) {
+            generations.put(region, new AtomicLong());
+        }
+    }
+    
+    public EncodedResponse get(ResponseRegion region, String key, Supplier<?> body) {
+        String cacheKey = region + ":" + generations.get(region).get() + ":" + key;
+        return cache.get(cacheKey, ignored -> encode(body.get()));
+    }
+    
+    public void invalidate(ResponseRegion region) {
+        generations.get(region).incrementAndGet();
+        String prefix = region + ":";
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+    
+    private EncodedResponse encode(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new EncodedResponse(body, gzipMinSize >= 0 && body.length >= gzipMinSize ? gzip(body) : null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        }
+        return output.toByteArray();
+    }
+}
\ No newline at end of file
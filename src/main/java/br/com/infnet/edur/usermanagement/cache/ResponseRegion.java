@@ -0,0 +1,7 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+public enum ResponseRegion {
+    
+    PRODUCTS,
+    SUPPLIERS
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+@Component
+public class SingleFlight {
+    
+    private static final String METRIC_NAME = "app.single.flight.requests";
+    
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String lookup, Object key, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        
+        String flightKey = lookup + ":" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            record(lookup, "coalesced");
+            return (T) await(existing);
+        }
+        
+        record(lookup, "loaded");
+        try {
+            T value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+    
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+    
+    private void record(String lookup, String outcome) {
+        meterRegistry.counter(METRIC_NAME, "lookup", lookup, "outcome", outcome).increment();
+    }
+}
\ No newline at end of file
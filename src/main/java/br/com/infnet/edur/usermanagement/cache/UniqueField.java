@@ -0,0 +1,27 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+public enum UniqueField {
+    
+    USER_EMAIL("user", "email"),
+    USER_PHONE_NUMBER("user", "phone_number"),
+    CUSTOMER_EMAIL("customer", "email"),
+    CUSTOMER_PHONE_NUMBER("customer", "phone_number"),
+    SUPPLIER_EMAIL("supplier", "email"),
+    SUPPLIER_PHONE_NUMBER("supplier", "phone_number");
+    
+    private final String entity;
+    private final String field;
+    
+    UniqueField(String entity, String field) {
+        this.entity = entity;
+        this.field = field;
+    }
+    
+    public String getEntity() {
+        return entity;
+    }
+    
+    public String getField() {
+        return field;
+    }
+}
\ No newline at end of file
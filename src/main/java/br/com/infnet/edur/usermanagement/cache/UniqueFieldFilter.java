@@ -0,0 +1,53 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UniqueFieldFilter {
+    
+    private final BloomFilter<CharSequence> filter;
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong skips = new AtomicLong();
+    private final AtomicLong staleEntries = new AtomicLong();
+    
+    public UniqueFieldFilter(long expectedInsertions, double falsePositiveRate) {
+        this.filter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+    }
+    
+    public boolean isDefinitelyAbsent(String value) {
+        checks.incrementAndGet();
+        if (filter.mightContain(value)) {
+            return false;
+        }
+        skips.incrementAndGet();
+        return true;
+    }
+    
+    public void put(String value) {
+        filter.put(value);
+    }
+    
+    public void markStale() {
+        staleEntries.incrementAndGet();
+    }
+    
+    public long getChecks() {
+        return checks.get();
+    }
+    
+    public long getSkips() {
+        return skips.get();
+    }
+    
+    public long getStaleEntries() {
+        return staleEntries.get();
+    }
+    
+    public double getSkipRatio() {
+        long total = checks.get();
+        return total == 0 ? 0.0 : (double) skips.get() / total;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.SupplierRepository;
+import br.com.infnet.edur.usermanagement.repository.UserRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.UniqueFieldsView;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Component
+public class UniqueFieldFilters implements MeterBinder {
+    
+    private final UserRepository userRepository;
+    private final CustomerRepository customerRepository;
+    private final SupplierRepository supplierRepository;
+    private final Map<UniqueField, UniqueFieldFilter> filters = new EnumMap<>(UniqueField.class);
+    private volatile boolean ready;
+    
+    public UniqueFieldFilters(UserRepository userRepository,
+                              CustomerRepository customerRepository,
+                              SupplierRepository supplierRepository,
+                              @Value("${unique-filters.expected-insertions:1000000}") long expectedInsertions,
+                              @Value("${unique-filters.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.customerRepository = customerRepository;
+        this.supplierRepository = supplierRepository;
+        for (UniqueField field : UniqueField.values()) {
+            filters.put(field, new UniqueFieldFilter(expectedInsertions, falsePositiveRate));
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        try (Stream<UniqueFieldsView> users = userRepository.streamUniqueFields()) {
+            users.forEach(view -> record(UniqueField.USER_EMAIL, UniqueField.USER_PHONE_NUMBER, view));
+        }
+        try (Stream<UniqueFieldsView> customers = customerRepository.streamUniqueFields()) {
+            customers.forEach(view -> record(UniqueField.CUSTOMER_EMAIL, UniqueField.CUSTOMER_PHONE_NUMBER, view));
+        }
+        try (Stream<UniqueFieldsView> suppliers = supplierRepository.streamUniqueFields()) {
+            suppliers.forEach(view -> record(UniqueField.SUPPLIER_EMAIL, UniqueField.SUPPLIER_PHONE_NUMBER, view));
+        }
+        ready = true;
+    }
+    
+    public boolean isDefinitelyAbsent(UniqueField field, String value) {
+        return ready && value != null && filters.get(field).isDefinitelyAbsent(value);
+    }
+    
+    public void record(UniqueField field, String value) {
+        if (value != null) {
+            filters.get(field).put(value);
+        }
+    }
+    
+    public void markStale(UniqueField field) {
+        filters.get(field).markStale();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        filters.forEach((field, filter) -> {
+            FunctionCounter.builder("unique.filter.checks", filter, UniqueFieldFilter::getChecks)
+                    .tag("entity", field.getEntity())
+                    .tag("field", field.getField())
+                    .register(registry);
+            FunctionCounter.builder("unique.filter.skips", filter, UniqueFieldFilter::getSkips)
+                    .tag("entity", field.getEntity())
+                    .tag("field", field.getField())
+                    .register(registry);
+            Gauge.builder("unique.filter.skip.ratio", filter, UniqueFieldFilter::getSkipRatio)
+                    .tag("entity", field.getEntity())
+                    .tag("field", field.getField())
+                    .register(registry);
+            Gauge.builder("unique.filter.stale.entries", filter, UniqueFieldFilter::getStaleEntries)
+                    .tag("entity", field.getEntity())
+                    .tag("field", field.getField())
+                    .register(registry);
+        });
+    }
+    
+    private void record(UniqueField emailField, UniqueField phoneNumberField, UniqueFieldsView view) {
+        record(emailField, view.getEmail());
+        record(phoneNumberField, view.getPhoneNumber());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package br.com.infnet.edur.usermanagement.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+    
+    public static final String METRIC_NAME = "app.conflict.retries";
+    
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    
+    public ConflictRetryAspect(MeterRegistry meterRegistry,
+                               @Value("${conflict-retry.max-attempts:3}") int maxAttempts,
+                               @Value("${conflict-retry.initial-backoff:10ms}") Duration initialBackoff,
+                               @Value("${conflict-retry.max-backoff:200ms}") Duration maxBackoff) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+    
+    @Around("@annotation(br.com.infnet.edur.usermanagement.concurrency.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        
+        long backoffMillis = initialBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException ex) {
+                String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+                if (attempt >= maxAttempts) {
+                    retryCounter(method, "exhausted").increment();
+                    log.warn("{} still conflicting after {} attempts", method, attempt);
+                    throw ex;
+                }
+                
+                retryCounter(method, "retried").increment();
+                sleep(ThreadLocalRandom.current().nextLong(backoffMillis / 2, backoffMillis + 1), ex);
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+            }
+        }
+    }
+    
+    private Counter retryCounter(String method, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+    
+    private void sleep(long millis, ConcurrencyFailureException conflict) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
\ No newline at end of file
@@ -1,16 +1,24 @@
 package br.com.infnet.edur.usermanagement.controller;
 
 import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.dto.request.CustomerInputDTO;
+import br.com.infnet.edur.usermanagement.service.CustomerImportService;
 import br.com.infnet.edur.usermanagement.service.CustomerService;
 import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.utils.etag.EntityTags;
+import br.com.infnet.edur.usermanagement.utils.ndjson.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/customers")
@@ -19,18 +27,33 @@ public class CustomerController {
     @Autowired
     private CustomerService customerService;
     
+    @Autowired
+    private CustomerImportService customerImportService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @GetMapping
-    public ResponseEntity<APIResponse<List<Customer>>> getAllCustomers() {
-        List<Customer> customers = customerService.getAllCustomers();
-        APIResponse<List<Customer>> response = APIResponse.success(customers);
+    public ResponseEntity<APIResponse<CursorPage<Customer>>> getAllCustomers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<Customer> customers = customerService.getCustomersPage(cursor, size);
+        APIResponse<CursorPage<Customer>> response = APIResponse.success(customers);
         return ResponseEntity.ok(response);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<APIResponse<Customer>> getCustomerById(@PathVariable Long id) {
+    public ResponseEntity<APIResponse<Customer>> getCustomerById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Customer customer = customerService.getCustomerById(id);
+        String eTag = EntityTags.fromContent(customer.getId(), customer.getName(), customer.getEmail(), customer.getPhoneNumber());
+        if (EntityTags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
         APIResponse<Customer> response = APIResponse.success(customer);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
     
     @PostMapping
@@ -42,6 +65,18 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importCustomersFromNdjson(InputStream input) {
+        StreamingResponseBody report = output -> customerImportService.importNdjson(input, result -> NdjsonWriter.writeLine(objectMapper, output, result));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(report);
+    }
+    
+    @PostMapping(value = "/bulk", consumes = "text/csv", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importCustomersFromCsv(InputStream input) {
+        StreamingResponseBody report = output -> customerImportService.importCsv(input, result -> NdjsonWriter.writeLine(objectMapper, output, result));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(report);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<APIResponse<Customer>> updateCustomer(@PathVariable Long id, @Valid @RequestBody CustomerInputDTO customerInputDTO) {
         Customer customer = new Customer(customerInputDTO.getName(), customerInputDTO.getEmail(), 
@@ -0,0 +1,30 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderArchiveRunDTO;
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderArchiveStatusDTO;
+import br.com.infnet.edur.usermanagement.service.OrderArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/orders/archive")
+public class OrderArchiveController {
+    
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+    
+    @GetMapping
+    public ResponseEntity<APIResponse<OrderArchiveStatusDTO>> getArchiveStatus() {
+        return ResponseEntity.ok(APIResponse.success(orderArchiveService.getStatus()));
+    }
+    
+    @PostMapping("/run")
+    public ResponseEntity<APIResponse<OrderArchiveRunDTO>> archiveOrders() {
+        return ResponseEntity.ok(APIResponse.success(orderArchiveService.archiveOrders()));
+    }
+}
\ No newline at end of file
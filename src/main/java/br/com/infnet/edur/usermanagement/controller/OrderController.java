@@ -1,63 +1,163 @@
 package br.com.infnet.edur.usermanagement.controller;
 
 import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderPurgeProgressDTO;
 import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderPatchDTO;
+import br.com.infnet.edur.usermanagement.service.IdempotencyService;
+import br.com.infnet.edur.usermanagement.service.OrderPurgeService;
 import br.com.infnet.edur.usermanagement.service.OrderService;
 import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.utils.etag.EntityTags;
+import br.com.infnet.edur.usermanagement.utils.etag.OrderEntityTags;
+import br.com.infnet.edur.usermanagement.utils.ndjson.NdjsonWriter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
     
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    
     @Autowired
     private OrderService orderService;
     
+    @Autowired
+    private OrderPurgeService orderPurgeService;
+    
+    @Autowired
+    private IdempotencyService idempotencyService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @GetMapping
-    public ResponseEntity<APIResponse<List<Order>>> getAllOrders() {
-        List<Order> orders = orderService.getAllOrders();
-        APIResponse<List<Order>> response = APIResponse.success(orders);
+    public ResponseEntity<APIResponse<CursorPage<Order>>> getAllOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<Order> orders = orderService.getOrdersPage(cursor, size);
+        APIResponse<CursorPage<Order>> response = APIResponse.success(orders);
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        StreamingResponseBody export = output -> orderService.exportOrders(order -> NdjsonWriter.writeLine(objectMapper, output, order));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(export);
+    }
+    
     @GetMapping("/{id}")
-    public ResponseEntity<APIResponse<Order>> getOrderById(@PathVariable Long id) {
+    public ResponseEntity<APIResponse<Order>> getOrderById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String currentTag = orderService.getOrderTag(id);
+            if (EntityTags.matches(ifNoneMatch, currentTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentTag).build();
+            }
+        }
+        
         Order order = orderService.getOrderById(id);
         APIResponse<Order> response = APIResponse.success(order);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(OrderEntityTags.of(order)).body(response);
     }
     
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<APIResponse<List<Order>>> getOrdersByCustomerId(@PathVariable Long customerId) {
-        List<Order> orders = orderService.getOrdersByCustomerId(customerId);
-        APIResponse<List<Order>> response = APIResponse.success(orders);
+    public ResponseEntity<APIResponse<CursorPage<Order>>> getOrdersByCustomerId(
+            @PathVariable Long customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<Order> orders = orderService.getOrdersPageByCustomerId(customerId, cursor, size);
+        APIResponse<CursorPage<Order>> response = APIResponse.success(orders);
         return ResponseEntity.ok(response);
     }
     
     @PostMapping
-    public ResponseEntity<APIResponse<Order>> createOrder(@Valid @RequestBody OrderInputDTO orderInputDTO) {
-        Order createdOrder = orderService.createOrder(orderInputDTO);
-        APIResponse<Order> response = APIResponse.success(createdOrder, HttpStatus.CREATED.value());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<APIResponse<Order>> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderInputDTO orderInputDTO) {
+        if (idempotencyKey == null) {
+            Order createdOrder = orderService.createOrder(orderInputDTO);
+            APIResponse<Order> response = APIResponse.success(createdOrder, HttpStatus.CREATED.value());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+        
+        IdempotencyService.Result<APIResponse<Order>> result = idempotencyService.execute("orders", idempotencyKey, orderInputDTO,
+                new TypeReference<>() {},
+                () -> APIResponse.success(orderService.createOrder(orderInputDTO), HttpStatus.CREATED.value()));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.isReplayed()))
+                .body(result.getValue());
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<APIResponse<Order>> updateOrder(@PathVariable Long id, @Valid @RequestBody OrderInputDTO orderInputDTO) {
-        Order updatedOrder = orderService.updateOrder(id, orderInputDTO);
+    public ResponseEntity<APIResponse<Order>> updateOrder(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody OrderInputDTO orderInputDTO) {
+        Order updatedOrder = orderService.updateOrder(id, orderInputDTO, EntityTags.parseVersions(ifMatch));
         APIResponse<Order> response = APIResponse.success(updatedOrder);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(OrderEntityTags.of(updatedOrder)).body(response);
+    }
+    
+    @PatchMapping("/{id}")
+    public ResponseEntity<APIResponse<Order>> patchOrder(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody OrderPatchDTO orderPatchDTO) {
+        Order patchedOrder = orderService.patchOrder(id, orderPatchDTO, EntityTags.parseVersions(ifMatch));
+        APIResponse<Order> response = APIResponse.success(patchedOrder);
+        return ResponseEntity.ok().eTag(OrderEntityTags.of(patchedOrder)).body(response);
+    }
+    
+    @DeleteMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> purgeOrdersByDate(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        orderPurgeService.validateOrderDateRange(from, to);
+        StreamingResponseBody progress = output -> orderPurgeService.purgeByOrderDate(from, to, chunk -> writeProgress(output, chunk));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(progress);
+    }
+    
+    @DeleteMapping(value = "/customer/{customerId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> purgeOrdersByCustomer(@PathVariable Long customerId) {
+        orderPurgeService.validateCustomer(customerId);
+        StreamingResponseBody progress = output -> orderPurgeService.purgeByCustomer(customerId, chunk -> writeProgress(output, chunk));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(progress);
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<APIResponse<Void>> deleteOrder(@PathVariable Long id) {
-        orderService.deleteOrder(id);
+    public ResponseEntity<APIResponse<Void>> deleteOrder(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        orderService.deleteOrder(id, EntityTags.parseVersions(ifMatch));
         APIResponse<Void> response = APIResponse.success(null, HttpStatus.NO_CONTENT.value());
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body(response);
     }
+    
+    private void writeProgress(OutputStream output, OrderPurgeProgressDTO progress) {
+        NdjsonWriter.writeLine(objectMapper, output, progress);
+        try {
+            output.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
\ No newline at end of file
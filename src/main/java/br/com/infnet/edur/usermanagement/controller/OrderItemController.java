@@ -1,6 +1,7 @@
 package br.com.infnet.edur.usermanagement.controller;
 
 import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
 import br.com.infnet.edur.usermanagement.dto.request.OrderItemUpdateDTO;
 import br.com.infnet.edur.usermanagement.service.OrderItemService;
@@ -13,8 +14,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/order-items")
 public class OrderItemController {
@@ -26,9 +25,11 @@ public class OrderItemController {
     private OrderService orderService;
     
     @GetMapping
-    public ResponseEntity<APIResponse<List<OrderItem>>> getAllOrderItems() {
-        List<OrderItem> orderItems = orderItemService.getAllOrderItems();
-        APIResponse<List<OrderItem>> response = APIResponse.success(orderItems);
+    public ResponseEntity<APIResponse<CursorPage<OrderItem>>> getAllOrderItems(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<OrderItem> orderItems = orderItemService.getOrderItemsPage(cursor, size);
+        APIResponse<CursorPage<OrderItem>> response = APIResponse.success(orderItems);
         return ResponseEntity.ok(response);
     }
     
@@ -44,7 +45,7 @@ public class OrderItemController {
             @PathVariable Long orderId, 
             @Valid @RequestBody OrderItemInputDTO orderItemInputDTO) {
         
-        Order order = orderService.getOrderById(orderId);
+        Order order = orderService.getActiveOrder(orderId);
         OrderItem createdOrderItem = orderItemService.createOrderItem(order, orderItemInputDTO);
         APIResponse<OrderItem> response = APIResponse.success(createdOrderItem, HttpStatus.CREATED.value());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -1,17 +1,21 @@
 package br.com.infnet.edur.usermanagement.controller;
 
+import br.com.infnet.edur.usermanagement.cache.EncodedResponse;
+import br.com.infnet.edur.usermanagement.cache.ResponseBodyCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseRegion;
 import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.reponse.CacheStatsDTO;
 import br.com.infnet.edur.usermanagement.dto.request.ProductInputDTO;
 import br.com.infnet.edur.usermanagement.service.ProductService;
 import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.utils.etag.EntityTags;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
@@ -19,18 +23,39 @@ public class ProductController {
     @Autowired
     private ProductService productService;
     
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
     @GetMapping
-    public ResponseEntity<APIResponse<List<Product>>> getAllProducts() {
-        List<Product> products = productService.getAllProducts();
-        APIResponse<List<Product>> response = APIResponse.success(products);
+    public ResponseEntity<byte[]> getAllProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        EncodedResponse page = responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=" + cursor + "&size=" + size,
+                () -> APIResponse.success(productService.getProductsPage(cursor, size)));
+        return page.toResponseEntity(ifNoneMatch, acceptEncoding);
+    }
+    
+    @GetMapping("/cache/stats")
+    public ResponseEntity<APIResponse<CacheStatsDTO>> getCacheStats() {
+        CacheStatsDTO stats = productService.getCacheStats();
+        APIResponse<CacheStatsDTO> response = APIResponse.success(stats);
         return ResponseEntity.ok(response);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<APIResponse<Product>> getProductById(@PathVariable Long id) {
+    public ResponseEntity<APIResponse<Product>> getProductById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Product product = productService.getProductById(id);
+        String eTag = EntityTags.fromContent(product.getId(), product.getName(), product.getUnitPrice());
+        if (EntityTags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
         APIResponse<Product> response = APIResponse.success(product);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
     
     @PostMapping
@@ -0,0 +1,79 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.reponse.SalesSummaryCheckDTO;
+import br.com.infnet.edur.usermanagement.dto.request.ReportGranularity;
+import br.com.infnet.edur.usermanagement.repository.projection.CustomerRevenueView;
+import br.com.infnet.edur.usermanagement.repository.projection.PeriodRevenueView;
+import br.com.infnet.edur.usermanagement.repository.projection.ProductSalesView;
+import br.com.infnet.edur.usermanagement.service.SalesReportService;
+import br.com.infnet.edur.usermanagement.service.SalesSummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports/sales")
+public class SalesReportController {
+    
+    @Autowired
+    private SalesReportService salesReportService;
+    
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+    
+    @GetMapping("/customers")
+    public ResponseEntity<APIResponse<List<CustomerRevenueView>>> getRevenueByCustomer(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        List<CustomerRevenueView> revenue = salesReportService.getRevenueByCustomer(from, to, limit);
+        return ResponseEntity.ok(APIResponse.success(revenue));
+    }
+    
+    @GetMapping("/products")
+    public ResponseEntity<APIResponse<List<ProductSalesView>>> getRevenueByProduct(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        List<ProductSalesView> revenue = salesReportService.getRevenueByProduct(from, to, limit);
+        return ResponseEntity.ok(APIResponse.success(revenue));
+    }
+    
+    @GetMapping("/products/top")
+    public ResponseEntity<APIResponse<List<ProductSalesView>>> getTopProductsByQuantity(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        List<ProductSalesView> products = salesReportService.getTopProductsByQuantity(from, to, limit);
+        return ResponseEntity.ok(APIResponse.success(products));
+    }
+    
+    @GetMapping("/periods")
+    public ResponseEntity<APIResponse<List<PeriodRevenueView>>> getRevenueByPeriod(
+            @RequestParam(defaultValue = "DAY") ReportGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<PeriodRevenueView> revenue = salesReportService.getRevenueByPeriod(granularity, from, to);
+        return ResponseEntity.ok(APIResponse.success(revenue));
+    }
+    
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<APIResponse<SalesSummaryCheckDTO>> rebuildSummary() {
+        salesSummaryService.rebuild();
+        return ResponseEntity.ok(APIResponse.success(salesSummaryService.checkConsistency()));
+    }
+    
+    @GetMapping("/summary/consistency")
+    public ResponseEntity<APIResponse<SalesSummaryCheckDTO>> checkSummaryConsistency() {
+        return ResponseEntity.ok(APIResponse.success(salesSummaryService.checkConsistency()));
+    }
+}
\ No newline at end of file
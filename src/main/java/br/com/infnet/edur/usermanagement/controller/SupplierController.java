@@ -1,17 +1,19 @@
 package br.com.infnet.edur.usermanagement.controller;
 
+import br.com.infnet.edur.usermanagement.cache.EncodedResponse;
+import br.com.infnet.edur.usermanagement.cache.ResponseBodyCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseRegion;
 import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
 import br.com.infnet.edur.usermanagement.dto.request.SupplierInputDTO;
 import br.com.infnet.edur.usermanagement.service.SupplierService;
 import br.com.infnet.edur.usermanagement.model.Supplier;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/suppliers")
 public class SupplierController {
@@ -19,11 +21,18 @@ public class SupplierController {
     @Autowired
     private SupplierService supplierService;
     
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
     @GetMapping
-    public ResponseEntity<APIResponse<List<Supplier>>> getAllSuppliers() {
-        List<Supplier> suppliers = supplierService.getAllSuppliers();
-        APIResponse<List<Supplier>> response = APIResponse.success(suppliers);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getAllSuppliers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        EncodedResponse page = responseBodyCache.get(ResponseRegion.SUPPLIERS, "cursor=" + cursor + "&size=" + size,
+                () -> APIResponse.success(supplierService.getSuppliersPage(cursor, size)));
+        return page.toResponseEntity(ifNoneMatch, acceptEncoding);
     }
     
     @GetMapping("/{id}")
@@ -1,6 +1,7 @@
 package br.com.infnet.edur.usermanagement.controller;
 
 import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.dto.request.UserInputDTO;
 import br.com.infnet.edur.usermanagement.service.UserService;
 import br.com.infnet.edur.usermanagement.model.User;
@@ -10,8 +11,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
@@ -20,9 +19,11 @@ public class UserController {
     private UserService userService;
     
     @GetMapping
-    public ResponseEntity<APIResponse<List<User>>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
-        APIResponse<List<User>> response = APIResponse.success(users);
+    public ResponseEntity<APIResponse<CursorPage<User>>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<User> users = userService.getUsersPage(cursor, size);
+        APIResponse<CursorPage<User>> response = APIResponse.success(users);
         return ResponseEntity.ok(response);
     }
     
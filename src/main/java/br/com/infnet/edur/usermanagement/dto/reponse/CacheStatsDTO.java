@@ -0,0 +1,17 @@
+package br.com.infnet.edur.usermanagement.dto.reponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO {
+    
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRate;
+    private long size;
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package br.com.infnet.edur.usermanagement.dto.reponse;
+
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    
+    public static <T> CursorPage<T> of(List<T> rows, int pageSize, Function<T, Long> idExtractor) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? KeysetCursor.encode(idExtractor.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+}
\ No newline at end of file
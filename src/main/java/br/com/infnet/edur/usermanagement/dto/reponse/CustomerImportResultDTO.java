@@ -0,0 +1,33 @@
+package br.com.infnet.edur.usermanagement.dto.reponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerImportResultDTO {
+    
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE,
+        FAILED
+    }
+    
+    private long row;
+    private Status status;
+    private String email;
+    private List<String> errors;
+    
+    public static CustomerImportResultDTO created(long row, String email) {
+        return new CustomerImportResultDTO(row, Status.CREATED, email, List.of());
+    }
+    
+    public static CustomerImportResultDTO rejected(long row, Status status, String email, List<String> errors) {
+        return new CustomerImportResultDTO(row, status, email, errors);
+    }
+}
\ No newline at end of file
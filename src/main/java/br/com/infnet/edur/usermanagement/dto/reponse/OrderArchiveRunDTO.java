@@ -0,0 +1,21 @@
+package br.com.infnet.edur.usermanagement.dto.reponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderArchiveRunDTO {
+    
+    private LocalDateTime cutoff;
+    private boolean resumed;
+    private int chunks;
+    private long ordersArchived;
+    private long orderItemsArchived;
+    private long durationMillis;
+    private double ordersPerSecond;
+}
\ No newline at end of file
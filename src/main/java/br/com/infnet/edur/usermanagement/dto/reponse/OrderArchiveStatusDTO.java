@@ -0,0 +1,18 @@
+package br.com.infnet.edur.usermanagement.dto.reponse;
+
+import br.com.infnet.edur.usermanagement.model.ArchiveCheckpoint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderArchiveStatusDTO {
+    
+    private Map<String, Long> tableRows;
+    private ArchiveCheckpoint checkpoint;
+    private OrderArchiveRunDTO lastRun;
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package br.com.infnet.edur.usermanagement.dto.reponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPurgeProgressDTO {
+    
+    private int chunks;
+    private long ordersDeleted;
+    private long orderItemsDeleted;
+    private boolean completed;
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package br.com.infnet.edur.usermanagement.dto.reponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesSummaryCheckDTO {
+    
+    private boolean consistent;
+    private long productRowsChecked;
+    private long customerRowsChecked;
+    private long mismatchCount;
+    private List<String> mismatches;
+}
\ No newline at end of file
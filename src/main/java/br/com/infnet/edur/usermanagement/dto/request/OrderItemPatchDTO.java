@@ -0,0 +1,21 @@
+package br.com.infnet.edur.usermanagement.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemPatchDTO {
+    
+    @NotNull(message = "Product ID is required")
+    private Long productId;
+    
+    @NotNull(message = "Quantity is required")
+    @Min(value = 0, message = "Quantity must not be negative")
+    private Integer quantity;
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package br.com.infnet.edur.usermanagement.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPatchDTO {
+    
+    private Long customerId;
+    
+    @Valid
+    private List<OrderItemPatchDTO> orderItems;
+}
\ No newline at end of file
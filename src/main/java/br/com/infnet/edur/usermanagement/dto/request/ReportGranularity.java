@@ -0,0 +1,8 @@
+package br.com.infnet.edur.usermanagement.dto.request;
+
+public enum ReportGranularity {
+    
+    DAY,
+    WEEK,
+    MONTH
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ExceptionHandlerMetricsAspect {
+    
+    public static final String METRIC_NAME = "app.errors";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public ExceptionHandlerMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @AfterReturning(pointcut = "within(br.com.infnet.edur.usermanagement.utils.exceptions.GlobalExceptionHandler) && args(exception)",
+            returning = "response")
+    public void countHandledException(Throwable exception, ResponseEntity<?> response) {
+        meterRegistry.counter(METRIC_NAME,
+                "exception", exception.getClass().getSimpleName(),
+                "status", String.valueOf(response.getStatusCode().value()))
+                .increment();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class MethodLatencyAspect {
+    
+    public static final String METRIC_NAME = "app.method.latency";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public MethodLatencyAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Around("@within(org.springframework.web.bind.annotation.RestController) && execution(public * *(..))")
+    public Object timeControllerMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
+    }
+    
+    @Around("within(br.com.infnet.edur.usermanagement.service..*) && execution(public * *(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+    
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("layer", layer)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
\ No newline at end of file
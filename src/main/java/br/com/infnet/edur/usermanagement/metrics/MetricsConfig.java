@@ -0,0 +1,29 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    
+    @Bean
+    public static StatementCountingDataSourcePostProcessor statementCountingDataSourcePostProcessor(
+            ObjectProvider<RequestQueryCounter> requestQueryCounter) {
+        return new StatementCountingDataSourcePostProcessor(requestQueryCounter);
+    }
+    
+    @Bean
+    public FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(RequestQueryCounter requestQueryCounter,
+                                                                         MeterRegistry meterRegistry,
+                                                                         @Value("${query-guardrails.warn-threshold:20}") long warnThreshold,
+                                                                         @Value("${query-guardrails.expose-headers:false}") boolean exposeHeaders) {
+        FilterRegistrationBean<QueryMetricsFilter> registration = new FilterRegistrationBean<>(
+                new QueryMetricsFilter(requestQueryCounter, meterRegistry, warnThreshold, exposeHeaders));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
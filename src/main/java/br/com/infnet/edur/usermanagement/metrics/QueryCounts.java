@@ -0,0 +1,34 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import lombok.Getter;
+
+@Getter
+public class QueryCounts {
+    
+    private String request;
+    private long statements;
+    private long entityLoads;
+    private long collectionFetches;
+    
+    void setRequest(String request) {
+        this.request = request;
+    }
+    
+    void incrementStatements() {
+        statements++;
+    }
+    
+    void incrementEntityLoads() {
+        entityLoads++;
+    }
+    
+    void incrementCollectionFetches() {
+        collectionFetches++;
+    }
+    
+    @Override
+    public String toString() {
+        return request + ": " + statements + " statements, " + entityLoads + " entity loads, "
+                + collectionFetches + " collection fetches";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryEventListeners implements PostLoadEventListener, InitializeCollectionEventListener {
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final RequestQueryCounter requestQueryCounter;
+    
+    public QueryEventListeners(EntityManagerFactory entityManagerFactory, RequestQueryCounter requestQueryCounter) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.requestQueryCounter = requestQueryCounter;
+    }
+    
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, this);
+        registry.appendListeners(EventType.INIT_COLLECTION, this);
+    }
+    
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        requestQueryCounter.entityLoaded();
+    }
+    
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        requestQueryCounter.collectionFetched();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,232 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+@Slf4j
+public class QueryMetricsFilter extends OncePerRequestFilter {
+    
+    public static final String STATEMENTS_METRIC_NAME = "app.request.sql.statements";
+    public static final String ENTITY_LOADS_METRIC_NAME = "app.request.entity.loads";
+    public static final String COLLECTION_FETCHES_METRIC_NAME = "app.request.collection.fetches";
+    
+    public static final String STATEMENTS_HEADER = "X-Query-Count";
+    public static final String ENTITY_LOADS_HEADER = "X-Entity-Load-Count";
+    public static final String COLLECTION_FETCHES_HEADER = "X-Collection-Fetch-Count";
+    
+    private static final String COUNTS_ATTRIBUTE = QueryMetricsFilter.class.getName() + ".COUNTS";
+    
+    private final RequestQueryCounter requestQueryCounter;
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+    private final boolean exposeHeaders;
+    
+    public QueryMetricsFilter(RequestQueryCounter requestQueryCounter, MeterRegistry meterRegistry,
+                              long warnThreshold, boolean exposeHeaders) {
+        this.requestQueryCounter = requestQueryCounter;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.exposeHeaders = exposeHeaders;
+    }
+    
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpServletResponse responseToUse = response;
+        if (isAsyncDispatch(request)) {
+            requestQueryCounter.attach((QueryCounts) request.getAttribute(COUNTS_ATTRIBUTE));
+        } else {
+            QueryCounts counts = requestQueryCounter.start();
+            request.setAttribute(COUNTS_ATTRIBUTE, counts);
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(COUNTS_ATTRIBUTE, new CountingCallableInterceptor(counts));
+            if (exposeHeaders && !(response instanceof ContentCachingResponseWrapper)) {
+                responseToUse = new QueryHeadersResponseWrapper(request, response);
+            }
+        }
+        
+        try {
+            filterChain.doFilter(request, responseToUse);
+        } finally {
+            if (isAsyncStarted(request)) {
+                requestQueryCounter.detach();
+            } else {
+                QueryCounts counts = requestQueryCounter.stop(request.getMethod() + " " + uriPattern(request));
+                record(request, counts);
+                if (responseToUse instanceof QueryHeadersResponseWrapper wrapper) {
+                    wrapper.complete(counts);
+                } else if (response instanceof ContentCachingResponseWrapper wrapper && exposeHeaders) {
+                    setHeaders(wrapper, counts);
+                    wrapper.copyBodyToResponse();
+                }
+            }
+        }
+    }
+    
+    private static BodyType bodyType(HttpServletRequest request) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod)) {
+            return BodyType.SERIALIZED;
+        }
+        
+        Object producible = request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+        if (producible instanceof Collection<?> mediaTypes && mediaTypes.contains(MediaType.APPLICATION_NDJSON)) {
+            return BodyType.STREAMED;
+        }
+        
+        Class<?> bodyClass = bodyClass(handlerMethod.getReturnType());
+        if (StreamingResponseBody.class.isAssignableFrom(bodyClass) || ResponseBodyEmitter.class.isAssignableFrom(bodyClass)) {
+            return BodyType.STREAMED;
+        }
+        return byte[].class.equals(bodyClass) ? BodyType.ENCODED : BodyType.SERIALIZED;
+    }
+    
+    private static Class<?> bodyClass(MethodParameter returnType) {
+        Class<?> type = returnType.getParameterType();
+        if (HttpEntity.class.isAssignableFrom(type)) {
+            Class<?> body = ResolvableType.forMethodParameter(returnType).as(HttpEntity.class).getGeneric(0).resolve();
+            return body != null ? body : Object.class;
+        }
+        return type;
+    }
+    
+    private static void setHeaders(HttpServletResponse response, QueryCounts counts) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(counts.getStatements()));
+        response.setHeader(ENTITY_LOADS_HEADER, String.valueOf(counts.getEntityLoads()));
+        response.setHeader(COLLECTION_FETCHES_HEADER, String.valueOf(counts.getCollectionFetches()));
+    }
+    
+    private void record(HttpServletRequest request, QueryCounts counts) {
+        String uri = uriPattern(request);
+        summary(STATEMENTS_METRIC_NAME, "statements", request, uri).record(counts.getStatements());
+        summary(ENTITY_LOADS_METRIC_NAME, "entities", request, uri).record(counts.getEntityLoads());
+        summary(COLLECTION_FETCHES_METRIC_NAME, "collections", request, uri).record(counts.getCollectionFetches());
+        
+        if (counts.getStatements() > warnThreshold) {
+            log.warn("{} exceeded the query threshold of {} statements ({} entity loads, {} collection fetches)",
+                    counts.getRequest(), warnThreshold, counts.getEntityLoads(), counts.getCollectionFetches());
+        }
+    }
+    
+    private DistributionSummary summary(String name, String baseUnit, HttpServletRequest request, String uri) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+    
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+    
+    private enum BodyType {
+        SERIALIZED, ENCODED, STREAMED
+    }
+    
+    private class CountingCallableInterceptor implements CallableProcessingInterceptor {
+        
+        private final QueryCounts counts;
+        
+        CountingCallableInterceptor(QueryCounts counts) {
+            this.counts = counts;
+        }
+        
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            requestQueryCounter.attach(counts);
+        }
+        
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            requestQueryCounter.detach();
+        }
+    }
+    
+    private class QueryHeadersResponseWrapper extends HttpServletResponseWrapper {
+        
+        private final HttpServletRequest request;
+        private BodyType bodyType;
+        private boolean headersWritten;
+        
+        QueryHeadersResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+        
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            prepareBody();
+            return super.getOutputStream();
+        }
+        
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            prepareBody();
+            return super.getWriter();
+        }
+        
+        @Override
+        public void flushBuffer() throws IOException {
+            prepareBody();
+            super.flushBuffer();
+        }
+        
+        void complete(QueryCounts counts) throws IOException {
+            writeHeaders(counts);
+            if (getResponse() instanceof ContentCachingResponseWrapper wrapper) {
+                wrapper.copyBodyToResponse();
+            }
+        }
+        
+        private void prepareBody() {
+            if (bodyType != null) {
+                return;
+            }
+            
+            bodyType = bodyType(request);
+            switch (bodyType) {
+                case ENCODED -> writeHeaders(requestQueryCounter.current());
+                case SERIALIZED -> setResponse(new ContentCachingResponseWrapper((HttpServletResponse) getResponse()));
+                case STREAMED -> {
+                }
+            }
+        }
+        
+        private void writeHeaders(QueryCounts counts) {
+            if (!headersWritten && bodyType != BodyType.STREAMED && !isCommitted()) {
+                headersWritten = true;
+                setHeaders(this, counts);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+@Component
+public class RequestQueryCounter {
+    
+    private final ThreadLocal<QueryCounts> current = new ThreadLocal<>();
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public RequestQueryCounter(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+    
+    public void statementExecuted() {
+        update(QueryCounts::incrementStatements);
+    }
+    
+    public void entityLoaded() {
+        update(QueryCounts::incrementEntityLoads);
+    }
+    
+    public void collectionFetched() {
+        update(QueryCounts::incrementCollectionFetches);
+    }
+    
+    public QueryCounts start() {
+        QueryCounts counts = new QueryCounts();
+        current.set(counts);
+        return counts;
+    }
+    
+    public void attach(QueryCounts counts) {
+        current.set(counts);
+    }
+    
+    public void detach() {
+        current.remove();
+    }
+    
+    public QueryCounts current() {
+        QueryCounts counts = current.get();
+        return counts != null ? counts : new QueryCounts();
+    }
+    
+    public QueryCounts stop(String request) {
+        QueryCounts counts = current.get();
+        current.remove();
+        if (counts == null) {
+            counts = new QueryCounts();
+        }
+        counts.setRequest(request);
+        eventPublisher.publishEvent(counts);
+        return counts;
+    }
+    
+    private void update(Consumer<QueryCounts> increment) {
+        QueryCounts counts = current.get();
+        if (counts != null) {
+            increment.accept(counts);
+        }
+    }
+}
\ No newline at end of file
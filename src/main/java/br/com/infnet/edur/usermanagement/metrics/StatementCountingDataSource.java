@@ -0,0 +1,75 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+public class StatementCountingDataSource extends DelegatingDataSource {
+    
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTIONS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    
+    private final RequestQueryCounter requestQueryCounter;
+    
+    public StatementCountingDataSource(DataSource targetDataSource, RequestQueryCounter requestQueryCounter) {
+        super(targetDataSource);
+        this.requestQueryCounter = requestQueryCounter;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+    
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                return countingStatement(method.getReturnType(), statement);
+            }
+            return result;
+        });
+    }
+    
+    private Object countingStatement(Class<?> statementType, Statement statement) {
+        return proxy(statementType, statement, (proxy, method, args) -> {
+            if (EXECUTIONS.contains(method.getName())) {
+                requestQueryCounter.statementExecuted();
+            }
+            return invoke(statement, method, args);
+        });
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Counting " + target;
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+    
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
\ No newline at end of file
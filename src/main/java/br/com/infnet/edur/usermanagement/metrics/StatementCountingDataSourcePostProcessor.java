@@ -0,0 +1,23 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+    
+    private final ObjectProvider<RequestQueryCounter> requestQueryCounter;
+    
+    public StatementCountingDataSourcePostProcessor(ObjectProvider<RequestQueryCounter> requestQueryCounter) {
+        this.requestQueryCounter = requestQueryCounter;
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+            return new StatementCountingDataSource(dataSource, requestQueryCounter.getObject());
+        }
+        return bean;
+    }
+}
\ No newline at end of file
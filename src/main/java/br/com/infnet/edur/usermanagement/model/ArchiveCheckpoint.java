@@ -0,0 +1,49 @@
+package br.com.infnet.edur.usermanagement.model;
+
+import lombok.*;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity(name = "ArchiveCheckpoint")
+@Builder
+@Table(name = "archive_checkpoints")
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveCheckpoint {
+    
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+    
+    @Column(name = "cutoff", nullable = false)
+    private LocalDateTime cutoff;
+    
+    @Column(name = "last_order_id", nullable = false)
+    @Builder.Default
+    private Long lastOrderId = 0L;
+    
+    @Column(name = "orders_archived", nullable = false)
+    @Builder.Default
+    private Long ordersArchived = 0L;
+    
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public void advance(Long lastOrderId, int orders, LocalDateTime updatedAt) {
+        this.lastOrderId = lastOrderId;
+        this.ordersArchived += orders;
+        this.updatedAt = updatedAt;
+    }
+    
+    public void complete(LocalDateTime updatedAt) {
+        this.completed = true;
+        this.updatedAt = updatedAt;
+    }
+}
\ No newline at end of file
@@ -9,12 +9,18 @@ import jakarta.validation.constraints.Pattern;
 
 @Entity(name = "Customer")
 @Builder
-@Table(name = "customers")
+@Table(name = "customers", uniqueConstraints = {
+        @UniqueConstraint(name = Customer.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = Customer.PHONE_NUMBER_CONSTRAINT, columnNames = "phone_number")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Customer {
     
+    public static final String EMAIL_CONSTRAINT = "uk_customers_email";
+    public static final String PHONE_NUMBER_CONSTRAINT = "uk_customers_phone_number";
+    
     public Customer(String name, String email, String phoneNumber) {
         this.name = name;
         this.email = email;
@@ -32,11 +38,11 @@ public class Customer {
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     @Pattern(regexp = "^[a-zA-Z0-9_!#$%&'*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$", message = "Email should be valid")
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
     
     @NotBlank(message = "Phone number is required")
     @Pattern(regexp = "^\\+?[1-9]\\d{1,14}$", message = "Phone number should be valid")
-    @Column(name = "phone_number", nullable = false, unique = true)
+    @Column(name = "phone_number", nullable = false)
     private String phoneNumber;
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package br.com.infnet.edur.usermanagement.model;
+
+import lombok.*;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity(name = "CustomerDailySales")
+@Builder
+@Table(name = "customer_daily_sales")
+@IdClass(CustomerDailySalesId.class)
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerDailySales {
+    
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+    
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+    
+    @Column(name = "order_count", nullable = false)
+    @Builder.Default
+    private Long orderCount = 0L;
+    
+    @Column(name = "revenue", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal revenue = BigDecimal.ZERO;
+    
+    public CustomerDailySalesId getKey() {
+        return new CustomerDailySalesId(customerId, salesDate);
+    }
+    
+    public void add(long orderCount, BigDecimal revenue) {
+        this.orderCount += orderCount;
+        this.revenue = this.revenue.add(revenue);
+    }
+    
+    public boolean isEmpty() {
+        return orderCount == 0 && revenue.signum() == 0;
+    }
+    
+    public boolean matches(CustomerDailySales other) {
+        return orderCount.equals(other.orderCount) && revenue.compareTo(other.revenue) == 0;
+    }
+}
\ No newline at end of file
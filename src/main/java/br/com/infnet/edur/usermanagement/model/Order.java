@@ -16,6 +16,7 @@ import java.util.List;
 @Builder
 @Table(name = "orders")
 @Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
@@ -24,6 +25,7 @@ public class Order {
         this.customer = customer;
         this.orderDate = LocalDateTime.now();
         this.orderItems = new ArrayList<>();
+        this.totalAmount = BigDecimal.ZERO;
     }
     
     @Id
@@ -45,8 +47,16 @@ public class Order {
     @JsonManagedReference
     private List<OrderItem> orderItems = new ArrayList<>();
     
-    public BigDecimal getTotalAmount() {
-        return orderItems.stream()
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    public void recalculateTotalAmount() {
+        totalAmount = orderItems.stream()
                 .map(OrderItem::getTotalPrice)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
@@ -54,10 +64,13 @@ public class Order {
     public void addOrderItem(OrderItem orderItem) {
         orderItems.add(orderItem);
         orderItem.setOrder(this);
+        totalAmount = totalAmount.add(orderItem.getTotalPrice());
     }
     
     public void removeOrderItem(OrderItem orderItem) {
-        orderItems.remove(orderItem);
+        if (orderItems.remove(orderItem)) {
+            totalAmount = totalAmount.subtract(orderItem.getTotalPrice());
+        }
         orderItem.setOrder(null);
     }
 }
\ No newline at end of file
@@ -20,7 +20,8 @@ import java.math.BigDecimal;
 public class OrderItem {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
     
     @NotNull(message = "Product is required")
@@ -44,6 +45,10 @@ public class OrderItem {
     @JsonBackReference
     private Order order;
     
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     public BigDecimal getTotalPrice() {
         return unitPrice.multiply(BigDecimal.valueOf(quantity));
     }
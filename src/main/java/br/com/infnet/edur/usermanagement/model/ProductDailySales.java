@@ -0,0 +1,52 @@
+package br.com.infnet.edur.usermanagement.model;
+
+import lombok.*;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity(name = "ProductDailySales")
+@Builder
+@Table(name = "product_daily_sales")
+@IdClass(ProductDailySalesId.class)
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDailySales {
+    
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+    
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+    
+    @Column(name = "quantity", nullable = false)
+    @Builder.Default
+    private Long quantity = 0L;
+    
+    @Column(name = "revenue", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal revenue = BigDecimal.ZERO;
+    
+    public ProductDailySalesId getKey() {
+        return new ProductDailySalesId(productId, salesDate);
+    }
+    
+    public void add(long quantity, BigDecimal revenue) {
+        this.quantity += quantity;
+        this.revenue = this.revenue.add(revenue);
+    }
+    
+    public boolean isEmpty() {
+        return quantity == 0 && revenue.signum() == 0;
+    }
+    
+    public boolean matches(ProductDailySales other) {
+        return quantity.equals(other.quantity) && revenue.compareTo(other.revenue) == 0;
+    }
+}
\ No newline at end of file
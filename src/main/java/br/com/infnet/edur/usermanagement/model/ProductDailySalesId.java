@@ -0,0 +1,21 @@
+package br.com.infnet.edur.usermanagement.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDailySalesId implements Serializable {
+    
+    private Long productId;
+    private LocalDate salesDate;
+}
\ No newline at end of file
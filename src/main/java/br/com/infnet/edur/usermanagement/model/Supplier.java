@@ -9,12 +9,18 @@ import jakarta.validation.constraints.Pattern;
 
 @Entity(name = "Supplier")
 @Builder
-@Table(name = "suppliers")
+@Table(name = "suppliers", uniqueConstraints = {
+        @UniqueConstraint(name = Supplier.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = Supplier.PHONE_NUMBER_CONSTRAINT, columnNames = "phone_number")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Supplier {
     
+    public static final String EMAIL_CONSTRAINT = "uk_suppliers_email";
+    public static final String PHONE_NUMBER_CONSTRAINT = "uk_suppliers_phone_number";
+    
     public Supplier(String name, String email, String phoneNumber) {
         this.name = name;
         this.email = email;
@@ -32,11 +38,11 @@ public class Supplier {
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     @Pattern(regexp = "^[a-zA-Z0-9_!#$%&'*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$", message = "Email should be valid")
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
     
     @NotBlank(message = "Phone number is required")
     @Pattern(regexp = "^\\+?[1-9]\\d{1,14}$", message = "Phone number should be valid")
-    @Column(name = "phone_number", nullable = false, unique = true)
+    @Column(name = "phone_number", nullable = false)
     private String phoneNumber;
 }
\ No newline at end of file
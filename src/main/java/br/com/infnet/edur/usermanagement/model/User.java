@@ -9,12 +9,18 @@ import jakarta.validation.constraints.Pattern;
 
 @Entity(name = "User")
 @Builder
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = User.PHONE_NUMBER_CONSTRAINT, columnNames = "phone_number")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
     
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+    public static final String PHONE_NUMBER_CONSTRAINT = "uk_users_phone_number";
+    
     public User(String firstName, String lastName, String email, String phoneNumber) {
         this.firstName = firstName;
         this.lastName = lastName;
@@ -37,11 +43,11 @@ public class User {
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     @Pattern(regexp = "^[a-zA-Z0-9_!#$%&’*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$", message = "Email should be valid")
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
     
     @NotBlank(message = "Phone number is required")
     @Pattern(regexp = "^\\+?[1-9]\\d{1,14}$", message = "Phone number should be valid")
-    @Column(name = "phone_number", nullable = false, unique = true)
+    @Column(name = "phone_number", nullable = false)
     private String phoneNumber;
 }
\ No newline at end of file
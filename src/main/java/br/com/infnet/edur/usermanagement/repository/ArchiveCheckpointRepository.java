@@ -0,0 +1,9 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import br.com.infnet.edur.usermanagement.model.ArchiveCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchiveCheckpointRepository extends JpaRepository<ArchiveCheckpoint, String> {
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import br.com.infnet.edur.usermanagement.model.Customer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class CustomerBatchRepository {
+    
+    private static final String INSERT_SQL = "insert into customers (customer_name, email, phone_number) values (?, ?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    public void insertAll(List<Customer> customers) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, customers, customers.size(), (statement, customer) -> {
+            statement.setString(1, customer.getName());
+            statement.setString(2, customer.getEmail());
+            statement.setString(3, customer.getPhoneNumber());
+        });
+    }
+}
\ No newline at end of file
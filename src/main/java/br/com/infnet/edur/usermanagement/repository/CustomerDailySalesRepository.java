@@ -0,0 +1,40 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import br.com.infnet.edur.usermanagement.model.CustomerDailySales;
+import br.com.infnet.edur.usermanagement.model.CustomerDailySalesId;
+import br.com.infnet.edur.usermanagement.repository.projection.CustomerRevenueView;
+import br.com.infnet.edur.usermanagement.repository.projection.PeriodRevenueView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface CustomerDailySalesRepository extends JpaRepository<CustomerDailySales, CustomerDailySalesId> {
+    
+    @Query("select s.customerId as customerId, c.name as customerName, sum(s.orderCount) as orderCount, sum(s.revenue) as revenue " +
+           "from CustomerDailySales s join Customer c on c.id = s.customerId " +
+           "where s.salesDate >= :from and s.salesDate < :to " +
+           "group by s.customerId, c.name having sum(s.orderCount) > 0 " +
+           "order by sum(s.revenue) desc, s.customerId")
+    List<CustomerRevenueView> sumRevenueByCustomer(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+    
+    @Query("select cast(trunc(s.salesDate, day) as LocalDateTime) as period, sum(s.orderCount) as orderCount, sum(s.revenue) as revenue " +
+           "from CustomerDailySales s where s.salesDate >= :from and s.salesDate < :to " +
+           "group by cast(trunc(s.salesDate, day) as LocalDateTime) having sum(s.orderCount) > 0 order by period")
+    List<PeriodRevenueView> sumRevenueByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    @Query("select cast(trunc(s.salesDate, week) as LocalDateTime) as period, sum(s.orderCount) as orderCount, sum(s.revenue) as revenue " +
+           "from CustomerDailySales s where s.salesDate >= :from and s.salesDate < :to " +
+           "group by cast(trunc(s.salesDate, week) as LocalDateTime) having sum(s.orderCount) > 0 order by period")
+    List<PeriodRevenueView> sumRevenueByWeek(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    @Query("select cast(trunc(s.salesDate, month) as LocalDateTime) as period, sum(s.orderCount) as orderCount, sum(s.revenue) as revenue " +
+           "from CustomerDailySales s where s.salesDate >= :from and s.salesDate < :to " +
+           "group by cast(trunc(s.salesDate, month) as LocalDateTime) having sum(s.orderCount) > 0 order by period")
+    List<PeriodRevenueView> sumRevenueByMonth(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
\ No newline at end of file
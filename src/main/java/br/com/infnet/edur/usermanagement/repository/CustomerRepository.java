@@ -1,9 +1,21 @@
 package br.com.infnet.edur.usermanagement.repository;
 
 import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.repository.projection.NamedUniqueFieldsView;
+import br.com.infnet.edur.usermanagement.repository.projection.UniqueFieldsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     
@@ -12,4 +24,23 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     boolean existsByEmail(String email);
     
     boolean existsByPhoneNumber(String phoneNumber);
+    
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    @Query("select c.name as name, c.email as email, c.phoneNumber as phoneNumber from Customer c "
+            + "where (:excludedId is null or c.id <> :excludedId) "
+            + "and (c.name = :name or c.email = :email or c.phoneNumber = :phoneNumber)")
+    List<NamedUniqueFieldsView> findUniqueFieldConflicts(@Param("excludedId") Long excludedId,
+                                                         @Param("name") String name,
+                                                         @Param("email") String email,
+                                                         @Param("phoneNumber") String phoneNumber);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select c.email as email, c.phoneNumber as phoneNumber from Customer c")
+    Stream<UniqueFieldsView> streamUniqueFields();
+    
+    @Query("select c.email as email, c.phoneNumber as phoneNumber from Customer c "
+            + "where c.email in :emails or c.phoneNumber in :phoneNumbers")
+    List<UniqueFieldsView> findUniqueFieldsIn(@Param("emails") Collection<String> emails,
+                                              @Param("phoneNumbers") Collection<String> phoneNumbers);
 }
\ No newline at end of file
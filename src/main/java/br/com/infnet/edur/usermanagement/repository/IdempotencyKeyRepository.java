@@ -0,0 +1,61 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import br.com.infnet.edur.usermanagement.cache.IdempotentResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public class IdempotencyKeyRepository {
+    
+    private static final String FIND_SQL =
+            "select request_hash, response_body from idempotency_keys " +
+            "where idempotency_key = ? and expires_at > ? and response_body is not null";
+    
+    private static final String CLAIM_SQL =
+            "insert into idempotency_keys (idempotency_key, request_hash, created_at, expires_at) values (?, ?, ?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    public Optional<IdempotentResponse> find(String key, LocalDateTime now) {
+        return jdbcTemplate.query(FIND_SQL, (resultSet, rowNum) -> new IdempotentResponse(
+                resultSet.getString("request_hash"), resultSet.getBytes("response_body")), key, Timestamp.valueOf(now))
+                .stream()
+                .findFirst();
+    }
+    
+    public boolean claim(String key, String requestHash, LocalDateTime now, LocalDateTime expiresAt, Duration lockTimeout) {
+        jdbcTemplate.update("delete from idempotency_keys where idempotency_key = ? and (expires_at <= ? or response_body is null)",
+                key, Timestamp.valueOf(now));
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(CLAIM_SQL);
+                statement.setQueryTimeout((int) Math.max(1, lockTimeout.toSeconds()));
+                statement.setString(1, key);
+                statement.setString(2, requestHash);
+                statement.setTimestamp(3, Timestamp.valueOf(now));
+                statement.setTimestamp(4, Timestamp.valueOf(expiresAt));
+                return statement;
+            });
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+    
+    public void complete(String key, byte[] responseBody) {
+        jdbcTemplate.update("update idempotency_keys set response_body = ? where idempotency_key = ?", responseBody, key);
+    }
+    
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update("delete from idempotency_keys where expires_at <= ?", Timestamp.valueOf(now));
+    }
+}
\ No newline at end of file
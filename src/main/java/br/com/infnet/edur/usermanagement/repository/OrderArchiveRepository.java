@@ -0,0 +1,81 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class OrderArchiveRepository {
+    
+    private static final List<String> TABLES = List.of("orders", "order_items", "archived_orders", "archived_order_items");
+    
+    private static final String COPY_ORDERS_SQL =
+            "insert into archived_orders (id, customer_id, order_date, total_amount, version, archived_at) " +
+            "select id, customer_id, order_date, total_amount, version, :archivedAt from orders where id in (:orderIds)";
+    
+    private static final String COPY_ORDER_ITEMS_SQL =
+            "insert into archived_order_items (id, order_id, product_id, quantity, unit_price) " +
+            "select id, order_id, product_id, quantity, unit_price from order_items where order_id in (:orderIds)";
+    
+    private static final String FIND_ORDER_SQL =
+            "select id, customer_id, order_date, total_amount, version from archived_orders where id = ?";
+    
+    private static final String FIND_ORDER_ITEMS_SQL =
+            "select id, product_id, quantity, unit_price from archived_order_items where order_id = ? order by id";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    public int copyOrders(Collection<Long> orderIds, LocalDateTime archivedAt) {
+        return namedParameterJdbcTemplate.update(COPY_ORDERS_SQL, Map.of("orderIds", orderIds, "archivedAt", archivedAt));
+    }
+    
+    public int copyOrderItems(Collection<Long> orderIds) {
+        return namedParameterJdbcTemplate.update(COPY_ORDER_ITEMS_SQL, Map.of("orderIds", orderIds));
+    }
+    
+    public boolean existsOrder(Long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select count(*) > 0 from archived_orders where id = ?", Boolean.class, id));
+    }
+    
+    public Optional<Order> findOrder(Long id) {
+        Optional<Order> order = jdbcTemplate.query(FIND_ORDER_SQL, (resultSet, rowNum) -> Order.builder()
+                .id(resultSet.getLong("id"))
+                .customer(Customer.builder().id(resultSet.getLong("customer_id")).build())
+                .orderDate(resultSet.getTimestamp("order_date").toLocalDateTime())
+                .totalAmount(resultSet.getBigDecimal("total_amount"))
+                .version(resultSet.getLong("version"))
+                .build(), id).stream().findFirst();
+        
+        order.ifPresent(archived -> jdbcTemplate.query(FIND_ORDER_ITEMS_SQL, (resultSet, rowNum) -> OrderItem.builder()
+                .id(resultSet.getLong("id"))
+                .product(Product.builder().id(resultSet.getLong("product_id")).build())
+                .quantity(resultSet.getInt("quantity"))
+                .unitPrice(resultSet.getBigDecimal("unit_price"))
+                .order(archived)
+                .build(), id).forEach(archived.getOrderItems()::add));
+        return order;
+    }
+    
+    public Map<String, Long> countRows() {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        TABLES.forEach(table -> rows.put(table, jdbcTemplate.queryForObject("select count(*) from " + table, Long.class)));
+        return rows;
+    }
+}
\ No newline at end of file
@@ -1,9 +1,22 @@
 package br.com.infnet.edur.usermanagement.repository;
 
 import br.com.infnet.edur.usermanagement.model.OrderItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+    
+    List<OrderItem> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    @Modifying
+    @Query("delete from OrderItem i where i.order.id in :orderIds")
+    int deleteByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
\ No newline at end of file
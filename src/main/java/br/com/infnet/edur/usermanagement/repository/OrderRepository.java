@@ -2,15 +2,76 @@ package br.com.infnet.edur.usermanagement.repository;
 
 import br.com.infnet.edur.usermanagement.model.Order;
 import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.repository.projection.OrderTagView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     
     List<Order> findByCustomer(Customer customer);
     
-    List<Order> findByCustomerId(Long customerId);
+    @Query("select o from Order o where o.customer.id = :customerId")
+    List<Order> findByCustomerId(@Param("customerId") Long customerId);
+    
+    @Override
+    @EntityGraph(attributePaths = {"customer", "orderItems", "orderItems.product"})
+    Optional<Order> findById(Long id);
+    
+    @EntityGraph(attributePaths = "customer")
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    @Query("select o from Order o join fetch o.customer where o.customer.id = :customerId and o.id > :id order by o.id")
+    List<Order> findByCustomerIdAndIdGreaterThanOrderByIdAsc(@Param("customerId") Long customerId, @Param("id") Long id, Limit limit);
+    
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.product"})
+    List<Order> findWithOrderItemsByIdIn(Collection<Long> ids);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Order o join fetch o.customer order by o.id")
+    Stream<Order> streamAllWithCustomer();
+    
+    @Query("select o.id from Order o where o.orderDate >= :from and o.orderDate < :to order by o.id")
+    List<Long> findIdsByOrderDateRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Limit limit);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id from Order o where o.orderDate < :cutoff and o.id > :afterId order by o.id")
+    List<Long> findIdsToArchive(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Limit limit);
+    
+    @Query("select o.id from Order o where o.customer.id = :customerId order by o.id")
+    List<Long> findIdsByCustomerId(@Param("customerId") Long customerId, Limit limit);
+    
+    @Query("select o.version as version, c.id as customerId, c.name as customerName, c.email as customerEmail, " +
+           "c.phoneNumber as customerPhoneNumber, i.id as itemId, i.version as itemVersion, i.quantity as quantity, " +
+           "i.unitPrice as unitPrice, p.id as productId, p.name as productName, p.unitPrice as productUnitPrice " +
+           "from Order o join o.customer c left join o.orderItems i left join i.product p where o.id = :id")
+    List<OrderTagView> findTagViewsById(@Param("id") Long id);
+    
+    @Modifying
+    @Query("delete from Order o where o.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query("update Order o set o.totalAmount = o.totalAmount + :delta, o.version = o.version + 1 where o.id = :orderId")
+    int adjustTotalAmount(@Param("orderId") Long orderId, @Param("delta") BigDecimal delta);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import br.com.infnet.edur.usermanagement.model.ProductDailySales;
+import br.com.infnet.edur.usermanagement.model.ProductDailySalesId;
+import br.com.infnet.edur.usermanagement.repository.projection.ProductSalesView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProductDailySalesRepository extends JpaRepository<ProductDailySales, ProductDailySalesId> {
+    
+    @Query("select s.productId as productId, p.name as productName, sum(s.quantity) as quantity, sum(s.revenue) as revenue " +
+           "from ProductDailySales s join Product p on p.id = s.productId " +
+           "where s.salesDate >= :from and s.salesDate < :to " +
+           "group by s.productId, p.name having sum(s.quantity) > 0 " +
+           "order by sum(s.revenue) desc, s.productId")
+    List<ProductSalesView> sumRevenueByProduct(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+    
+    @Query("select s.productId as productId, p.name as productName, sum(s.quantity) as quantity, sum(s.revenue) as revenue " +
+           "from ProductDailySales s join Product p on p.id = s.productId " +
+           "where s.salesDate >= :from and s.salesDate < :to " +
+           "group by s.productId, p.name having sum(s.quantity) > 0 " +
+           "order by sum(s.quantity) desc, s.productId")
+    List<ProductSalesView> findTopProductsByQuantity(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+}
\ No newline at end of file
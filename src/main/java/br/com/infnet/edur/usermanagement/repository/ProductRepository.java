@@ -1,11 +1,16 @@
 package br.com.infnet.edur.usermanagement.repository;
 
 import br.com.infnet.edur.usermanagement.model.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     
     boolean existsByName(String name);
+    
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import br.com.infnet.edur.usermanagement.model.CustomerDailySales;
+import br.com.infnet.edur.usermanagement.model.ProductDailySales;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class SalesSummaryRepository {
+    
+    private static final String MERGE_PRODUCT_SQL =
+            "merge into product_daily_sales s " +
+            "using (values (cast(? as bigint), cast(? as date), cast(? as bigint), cast(? as decimal(19,2)))) " +
+            "as d (product_id, sales_date, quantity, revenue) " +
+            "on s.product_id = d.product_id and s.sales_date = d.sales_date " +
+            "when matched then update set quantity = s.quantity + d.quantity, revenue = s.revenue + d.revenue " +
+            "when not matched then insert (product_id, sales_date, quantity, revenue) " +
+            "values (d.product_id, d.sales_date, d.quantity, d.revenue)";
+    
+    private static final String MERGE_CUSTOMER_SQL =
+            "merge into customer_daily_sales s " +
+            "using (values (cast(? as bigint), cast(? as date), cast(? as bigint), cast(? as decimal(19,2)))) " +
+            "as d (customer_id, sales_date, order_count, revenue) " +
+            "on s.customer_id = d.customer_id and s.sales_date = d.sales_date " +
+            "when matched then update set order_count = s.order_count + d.order_count, revenue = s.revenue + d.revenue " +
+            "when not matched then insert (customer_id, sales_date, order_count, revenue) " +
+            "values (d.customer_id, d.sales_date, d.order_count, d.revenue)";
+    
+    private static final String SUBTRACT_PRODUCT_SQL =
+            "merge into product_daily_sales s " +
+            "using (select i.product_id, cast(o.order_date as date) as sales_date, " +
+            "sum(i.quantity) as quantity, sum(i.unit_price * i.quantity) as revenue " +
+            "from order_items i join orders o on o.id = i.order_id where o.id in (:orderIds) " +
+            "group by i.product_id, cast(o.order_date as date)) as d " +
+            "on s.product_id = d.product_id and s.sales_date = d.sales_date " +
+            "when matched then update set quantity = s.quantity - d.quantity, revenue = s.revenue - d.revenue " +
+            "when not matched then insert (product_id, sales_date, quantity, revenue) " +
+            "values (d.product_id, d.sales_date, -d.quantity, -d.revenue)";
+    
+    private static final String SUBTRACT_CUSTOMER_SQL =
+            "merge into customer_daily_sales s " +
+            "using (select o.customer_id, cast(o.order_date as date) as sales_date, " +
+            "count(*) as order_count, sum(o.total_amount) as revenue " +
+            "from orders o where o.id in (:orderIds) " +
+            "group by o.customer_id, cast(o.order_date as date)) as d " +
+            "on s.customer_id = d.customer_id and s.sales_date = d.sales_date " +
+            "when matched then update set order_count = s.order_count - d.order_count, revenue = s.revenue - d.revenue " +
+            "when not matched then insert (customer_id, sales_date, order_count, revenue) " +
+            "values (d.customer_id, d.sales_date, -d.order_count, -d.revenue)";
+    
+    private static final String SCAN_PRODUCT_SQL =
+            "select l.product_id, cast(l.order_date as date) as sales_date, " +
+            "sum(l.quantity) as quantity, sum(l.unit_price * l.quantity) as revenue " +
+            "from (select i.product_id, i.quantity, i.unit_price, o.order_date " +
+            "from order_items i join orders o on o.id = i.order_id " +
+            "union all select i.product_id, i.quantity, i.unit_price, o.order_date " +
+            "from archived_order_items i join archived_orders o on o.id = i.order_id) l " +
+            "group by l.product_id, cast(l.order_date as date)";
+    
+    private static final String SCAN_CUSTOMER_SQL =
+            "select l.customer_id, cast(l.order_date as date) as sales_date, " +
+            "count(*) as order_count, sum(l.total_amount) as revenue " +
+            "from (select customer_id, order_date, total_amount from orders " +
+            "union all select customer_id, order_date, total_amount from archived_orders) l " +
+            "group by l.customer_id, cast(l.order_date as date)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    public void applyProductDeltas(Collection<ProductDailySales> deltas) {
+        jdbcTemplate.batchUpdate(MERGE_PRODUCT_SQL, new ArrayList<>(deltas), deltas.size(), (statement, delta) -> {
+            statement.setLong(1, delta.getProductId());
+            statement.setDate(2, Date.valueOf(delta.getSalesDate()));
+            statement.setLong(3, delta.getQuantity());
+            statement.setBigDecimal(4, delta.getRevenue());
+        });
+    }
+    
+    public void applyCustomerDelta(CustomerDailySales delta) {
+        jdbcTemplate.update(MERGE_CUSTOMER_SQL, delta.getCustomerId(), Date.valueOf(delta.getSalesDate()),
+                delta.getOrderCount(), delta.getRevenue());
+    }
+    
+    public void subtractOrders(Collection<Long> orderIds) {
+        Map<String, Collection<Long>> parameters = Map.of("orderIds", orderIds);
+        namedParameterJdbcTemplate.update(SUBTRACT_PRODUCT_SQL, parameters);
+        namedParameterJdbcTemplate.update(SUBTRACT_CUSTOMER_SQL, parameters);
+    }
+    
+    public List<ProductDailySales> scanProductSales() {
+        return jdbcTemplate.query(SCAN_PRODUCT_SQL, (resultSet, rowNum) -> ProductDailySales.builder()
+                .productId(resultSet.getLong("product_id"))
+                .salesDate(resultSet.getDate("sales_date").toLocalDate())
+                .quantity(resultSet.getLong("quantity"))
+                .revenue(resultSet.getBigDecimal("revenue"))
+                .build());
+    }
+    
+    public List<CustomerDailySales> scanCustomerSales() {
+        return jdbcTemplate.query(SCAN_CUSTOMER_SQL, (resultSet, rowNum) -> CustomerDailySales.builder()
+                .customerId(resultSet.getLong("customer_id"))
+                .salesDate(resultSet.getDate("sales_date").toLocalDate())
+                .orderCount(resultSet.getLong("order_count"))
+                .revenue(resultSet.getBigDecimal("revenue"))
+                .build());
+    }
+    
+    public void rebuild() {
+        jdbcTemplate.update("delete from product_daily_sales");
+        jdbcTemplate.update("delete from customer_daily_sales");
+        jdbcTemplate.update("insert into product_daily_sales (product_id, sales_date, quantity, revenue) " + SCAN_PRODUCT_SQL);
+        jdbcTemplate.update("insert into customer_daily_sales (customer_id, sales_date, order_count, revenue) " + SCAN_CUSTOMER_SQL);
+    }
+}
\ No newline at end of file
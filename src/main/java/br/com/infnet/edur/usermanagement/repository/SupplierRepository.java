@@ -1,9 +1,20 @@
 package br.com.infnet.edur.usermanagement.repository;
 
 import br.com.infnet.edur.usermanagement.model.Supplier;
+import br.com.infnet.edur.usermanagement.repository.projection.NamedUniqueFieldsView;
+import br.com.infnet.edur.usermanagement.repository.projection.UniqueFieldsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface SupplierRepository extends JpaRepository<Supplier, Long> {
     
@@ -12,4 +23,18 @@ public interface SupplierRepository extends JpaRepository<Supplier, Long> {
     boolean existsByEmail(String email);
     
     boolean existsByPhoneNumber(String phoneNumber);
+    
+    List<Supplier> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    @Query("select s.name as name, s.email as email, s.phoneNumber as phoneNumber from Supplier s "
+            + "where (:excludedId is null or s.id <> :excludedId) "
+            + "and (s.name = :name or s.email = :email or s.phoneNumber = :phoneNumber)")
+    List<NamedUniqueFieldsView> findUniqueFieldConflicts(@Param("excludedId") Long excludedId,
+                                                         @Param("name") String name,
+                                                         @Param("email") String email,
+                                                         @Param("phoneNumber") String phoneNumber);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select s.email as email, s.phoneNumber as phoneNumber from Supplier s")
+    Stream<UniqueFieldsView> streamUniqueFields();
 }
\ No newline at end of file
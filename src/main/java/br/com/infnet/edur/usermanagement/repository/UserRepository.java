@@ -1,13 +1,36 @@
 package br.com.infnet.edur.usermanagement.repository;
 
 import br.com.infnet.edur.usermanagement.model.User;
+import br.com.infnet.edur.usermanagement.repository.projection.UniqueFieldsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
     boolean existsByEmail(String email);
     
     boolean existsByPhoneNumber(String phoneNumber);
+    
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    @Query("select u.email as email, u.phoneNumber as phoneNumber from User u "
+            + "where (:excludedId is null or u.id <> :excludedId) "
+            + "and (u.email = :email or u.phoneNumber = :phoneNumber)")
+    List<UniqueFieldsView> findUniqueFieldConflicts(@Param("excludedId") Long excludedId,
+                                                    @Param("email") String email,
+                                                    @Param("phoneNumber") String phoneNumber);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.email as email, u.phoneNumber as phoneNumber from User u")
+    Stream<UniqueFieldsView> streamUniqueFields();
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package br.com.infnet.edur.usermanagement.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface CustomerRevenueView {
+    
+    Long getCustomerId();
+    
+    String getCustomerName();
+    
+    Long getOrderCount();
+    
+    BigDecimal getRevenue();
+}
\ No newline at end of file
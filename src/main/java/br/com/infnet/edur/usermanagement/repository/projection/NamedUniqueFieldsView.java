@@ -0,0 +1,6 @@
+package br.com.infnet.edur.usermanagement.repository.projection;
+
+public interface NamedUniqueFieldsView extends UniqueFieldsView {
+    
+    String getName();
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package br.com.infnet.edur.usermanagement.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface OrderTagView {
+    
+    Long getVersion();
+    
+    Long getCustomerId();
+    
+    String getCustomerName();
+    
+    String getCustomerEmail();
+    
+    String getCustomerPhoneNumber();
+    
+    Long getItemId();
+    
+    Long getItemVersion();
+    
+    Integer getQuantity();
+    
+    BigDecimal getUnitPrice();
+    
+    Long getProductId();
+    
+    String getProductName();
+    
+    BigDecimal getProductUnitPrice();
+}
\ No newline at end of file
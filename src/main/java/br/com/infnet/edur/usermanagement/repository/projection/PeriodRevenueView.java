@@ -0,0 +1,13 @@
+package br.com.infnet.edur.usermanagement.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface PeriodRevenueView {
+    
+    LocalDateTime getPeriod();
+    
+    Long getOrderCount();
+    
+    BigDecimal getRevenue();
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package br.com.infnet.edur.usermanagement.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface ProductSalesView {
+    
+    Long getProductId();
+    
+    String getProductName();
+    
+    Long getQuantity();
+    
+    BigDecimal getRevenue();
+}
\ No newline at end of file
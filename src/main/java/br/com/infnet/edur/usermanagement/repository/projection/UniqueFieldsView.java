@@ -0,0 +1,8 @@
+package br.com.infnet.edur.usermanagement.repository.projection;
+
+public interface UniqueFieldsView {
+    
+    String getEmail();
+    
+    String getPhoneNumber();
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package br.com.infnet.edur.usermanagement.scheduling;
+
+import br.com.infnet.edur.usermanagement.service.IdempotencyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+public class IdempotencyCleanupScheduler {
+    
+    private final IdempotencyService idempotencyService;
+    
+    public IdempotencyCleanupScheduler(IdempotencyService idempotencyService) {
+        this.idempotencyService = idempotencyService;
+    }
+    
+    @Scheduled(initialDelayString = "${idempotency.cleanup-interval:PT10M}", fixedDelayString = "${idempotency.cleanup-interval:PT10M}")
+    public void deleteExpiredKeys() {
+        int deleted = idempotencyService.deleteExpiredKeys();
+        if (deleted > 0) {
+            log.info("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package br.com.infnet.edur.usermanagement.scheduling;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderArchiveRunDTO;
+import br.com.infnet.edur.usermanagement.service.OrderArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "orders.archive.enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+    
+    private final OrderArchiveService orderArchiveService;
+    
+    public OrderArchiveScheduler(OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+    
+    @Scheduled(initialDelayString = "${orders.archive.initial-delay:PT1H}", fixedDelayString = "${orders.archive.interval:P1D}")
+    public void archiveOrders() {
+        OrderArchiveRunDTO run = orderArchiveService.archiveOrders();
+        log.info("Archived {} orders and {} order items older than {} in {} chunks ({} ms, {} orders/s)",
+                run.getOrdersArchived(), run.getOrderItemsArchived(), run.getCutoff(), run.getChunks(),
+                run.getDurationMillis(), String.format("%.1f", run.getOrdersPerSecond()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,266 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.cache.UniqueField;
+import br.com.infnet.edur.usermanagement.cache.UniqueFieldFilters;
+import br.com.infnet.edur.usermanagement.dto.reponse.CustomerImportResultDTO;
+import br.com.infnet.edur.usermanagement.dto.request.CustomerInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.repository.CustomerBatchRepository;
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.UniqueFieldsView;
+import br.com.infnet.edur.usermanagement.utils.exceptions.CustomerAlreadyExistsException;
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+public class CustomerImportService {
+    
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
+    
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+    
+    @Autowired
+    private CustomerRepository customerRepository;
+    
+    @Autowired
+    private CustomerBatchRepository customerBatchRepository;
+    
+    @Autowired
+    private CustomerService customerService;
+    
+    @Autowired
+    private UniqueFieldFilters uniqueFieldFilters;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${customers.import.batch-size:500}")
+    private int batchSize;
+    
+    public void importNdjson(InputStream input, Consumer<CustomerImportResultDTO> listener) throws IOException {
+        importCustomers(objectMapper.readerFor(CustomerInputDTO.class).readValues(input), listener);
+    }
+    
+    public void importCsv(InputStream input, Consumer<CustomerImportResultDTO> listener) throws IOException {
+        importCustomers(CSV_MAPPER.readerFor(CustomerInputDTO.class).with(CSV_SCHEMA).readValues(input), listener);
+    }
+    
+    private void importCustomers(MappingIterator<CustomerInputDTO> records, Consumer<CustomerImportResultDTO> listener) throws IOException {
+        try (records) {
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            long row = 0;
+            boolean malformed = false;
+            
+            while (!malformed) {
+                row++;
+                ImportRow importRow;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    importRow = validate(row, records.nextValue());
+                } catch (StreamReadException ex) {
+                    importRow = ImportRow.rejected(row, CustomerImportResultDTO.Status.FAILED, null, malformedRecord(ex.getOriginalMessage()));
+                    malformed = true;
+                } catch (DatabindException ex) {
+                    importRow = ImportRow.rejected(row, CustomerImportResultDTO.Status.INVALID, null, malformedRecord(ex.getOriginalMessage()));
+                }
+                
+                batch.add(importRow);
+                if (batch.size() == batchSize) {
+                    flush(batch, listener);
+                    batch.clear();
+                }
+            }
+            
+            flush(batch, listener);
+        }
+    }
+    
+    private ImportRow validate(long row, CustomerInputDTO input) {
+        Set<ConstraintViolation<CustomerInputDTO>> violations = validator.validate(input);
+        if (!violations.isEmpty()) {
+            List<String> errors = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList();
+            return ImportRow.rejected(row, CustomerImportResultDTO.Status.INVALID, input.getEmail(), errors);
+        }
+        return new ImportRow(row, new Customer(input.getName(), input.getEmail(), input.getPhoneNumber()));
+    }
+    
+    private void flush(List<ImportRow> batch, Consumer<CustomerImportResultDTO> listener) {
+        rejectDuplicatesInBatch(batch);
+        rejectExistingCustomers(pending(batch));
+        insert(pending(batch));
+        batch.forEach(importRow -> listener.accept(importRow.getResult()));
+    }
+    
+    private void rejectDuplicatesInBatch(List<ImportRow> batch) {
+        Set<String> emails = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        
+        for (ImportRow importRow : pending(batch)) {
+            Customer customer = importRow.getCustomer();
+            List<String> errors = new ArrayList<>();
+            if (emails.contains(customer.getEmail())) {
+                errors.add("email: " + ErrorMessages.DUPLICATED_IN_IMPORT.getMessage());
+            }
+            if (phoneNumbers.contains(customer.getPhoneNumber())) {
+                errors.add("phoneNumber: " + ErrorMessages.DUPLICATED_IN_IMPORT.getMessage());
+            }
+            
+            if (errors.isEmpty()) {
+                emails.add(customer.getEmail());
+                phoneNumbers.add(customer.getPhoneNumber());
+            } else {
+                importRow.reject(CustomerImportResultDTO.Status.DUPLICATE, errors);
+            }
+        }
+    }
+    
+    private void rejectExistingCustomers(List<ImportRow> rows) {
+        if (rows.isEmpty() || rows.stream().allMatch(this::isDefinitelyNew)) {
+            return;
+        }
+        
+        Set<String> emails = rows.stream().map(importRow -> importRow.getCustomer().getEmail()).collect(Collectors.toSet());
+        Set<String> phoneNumbers = rows.stream().map(importRow -> importRow.getCustomer().getPhoneNumber()).collect(Collectors.toSet());
+        List<UniqueFieldsView> conflicts = customerRepository.findUniqueFieldsIn(emails, phoneNumbers);
+        if (conflicts.isEmpty()) {
+            return;
+        }
+        
+        Set<String> existingEmails = conflicts.stream().map(UniqueFieldsView::getEmail).collect(Collectors.toSet());
+        Set<String> existingPhoneNumbers = conflicts.stream().map(UniqueFieldsView::getPhoneNumber).collect(Collectors.toSet());
+        
+        for (ImportRow importRow : rows) {
+            Customer customer = importRow.getCustomer();
+            List<String> errors = new ArrayList<>();
+            if (existingEmails.contains(customer.getEmail())) {
+                errors.add("email: " + ErrorMessages.CUSTOMER_ALREADY_EXISTS.getMessage());
+            }
+            if (existingPhoneNumbers.contains(customer.getPhoneNumber())) {
+                errors.add("phoneNumber: " + ErrorMessages.CUSTOMER_ALREADY_EXISTS.getMessage());
+            }
+            if (!errors.isEmpty()) {
+                importRow.reject(CustomerImportResultDTO.Status.DUPLICATE, errors);
+            }
+        }
+    }
+    
+    private void insert(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        List<Customer> customers = rows.stream().map(ImportRow::getCustomer).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> customerBatchRepository.insertAll(customers));
+        } catch (DataIntegrityViolationException ex) {
+            rows.forEach(this::insertOne);
+            return;
+        }
+        
+        for (ImportRow importRow : rows) {
+            uniqueFieldFilters.record(UniqueField.CUSTOMER_EMAIL, importRow.getCustomer().getEmail());
+            uniqueFieldFilters.record(UniqueField.CUSTOMER_PHONE_NUMBER, importRow.getCustomer().getPhoneNumber());
+            importRow.accept();
+        }
+    }
+    
+    private void insertOne(ImportRow importRow) {
+        try {
+            customerService.createCustomer(importRow.getCustomer());
+            importRow.accept();
+        } catch (CustomerAlreadyExistsException ex) {
+            importRow.reject(CustomerImportResultDTO.Status.DUPLICATE, List.of(ex.getMessage()));
+        } catch (DataAccessException ex) {
+            importRow.reject(CustomerImportResultDTO.Status.FAILED, List.of(ex.getMostSpecificCause().getMessage()));
+        }
+    }
+    
+    private boolean isDefinitelyNew(ImportRow importRow) {
+        return uniqueFieldFilters.isDefinitelyAbsent(UniqueField.CUSTOMER_EMAIL, importRow.getCustomer().getEmail())
+                && uniqueFieldFilters.isDefinitelyAbsent(UniqueField.CUSTOMER_PHONE_NUMBER, importRow.getCustomer().getPhoneNumber());
+    }
+    
+    private static List<ImportRow> pending(List<ImportRow> batch) {
+        return batch.stream().filter(ImportRow::isPending).toList();
+    }
+    
+    private static List<String> malformedRecord(String detail) {
+        return List.of(ErrorMessages.MALFORMED_IMPORT_RECORD.getMessage() + ": " + detail);
+    }
+    
+    private static class ImportRow {
+        
+        private final long row;
+        private final Customer customer;
+        private CustomerImportResultDTO result;
+        
+        ImportRow(long row, Customer customer) {
+            this.row = row;
+            this.customer = customer;
+        }
+        
+        static ImportRow rejected(long row, CustomerImportResultDTO.Status status, String email, List<String> errors) {
+            ImportRow importRow = new ImportRow(row, null);
+            importRow.result = CustomerImportResultDTO.rejected(row, status, email, errors);
+            return importRow;
+        }
+        
+        Customer getCustomer() {
+            return customer;
+        }
+        
+        CustomerImportResultDTO getResult() {
+            return result;
+        }
+        
+        boolean isPending() {
+            return result == null;
+        }
+        
+        void accept() {
+            result = CustomerImportResultDTO.created(row, customer.getEmail());
+        }
+        
+        void reject(CustomerImportResultDTO.Status status, List<String> errors) {
+            result = CustomerImportResultDTO.rejected(row, status, customer.getEmail(), errors);
+        }
+    }
+}
\ No newline at end of file
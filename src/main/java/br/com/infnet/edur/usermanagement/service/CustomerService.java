@@ -1,10 +1,19 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.SingleFlight;
+import br.com.infnet.edur.usermanagement.cache.UniqueField;
+import br.com.infnet.edur.usermanagement.cache.UniqueFieldFilters;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.model.Customer;
 import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.NamedUniqueFieldsView;
+import br.com.infnet.edur.usermanagement.utils.exceptions.ConstraintViolations;
 import br.com.infnet.edur.usermanagement.utils.exceptions.CustomerAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.CustomerNotFoundException;
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,43 +23,40 @@ public class CustomerService {
     
     @Autowired
     private CustomerRepository customerRepository;
+    
+    @Autowired
+    private UniqueFieldFilters uniqueFieldFilters;
+    
+    @Autowired
+    private SingleFlight singleFlight;
 
     public List<Customer> getAllCustomers() {
         return customerRepository.findAll();
     }
 
+    public CursorPage<Customer> getCustomersPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<Customer> customers = customerRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(customers, pageSize, Customer::getId);
+    }
+
     public Customer getCustomerById(Long id) {
-        return customerRepository.findById(id)
-                .orElseThrow(() -> new CustomerNotFoundException(id));
+        return singleFlight.execute("customer", id, () -> customerRepository.findById(id)
+                .orElseThrow(() -> new CustomerNotFoundException(id)));
     }
 
     public Customer createCustomer(Customer customer) {
-        
-        if (existsByEmail(customer.getEmail())) {
-            throw new CustomerAlreadyExistsException("email", customer.getEmail());
-        }
-        
-        if (existsByPhoneNumber(customer.getPhoneNumber())) {
-            throw new CustomerAlreadyExistsException("phone number", customer.getPhoneNumber());
-        }
-        
-        return customerRepository.save(customer);
+        validateUniqueFields(null, null, customer.getEmail(), customer.getPhoneNumber());
+        return saveCustomer(customer);
     }
 
     public Customer updateCustomer(Long id, Customer customer) {
         Customer existingCustomer = getCustomerById(id);
         
-        if (!existingCustomer.getName().equals(customer.getName()) && existsByName(customer.getName())) {
-            throw new CustomerAlreadyExistsException("name", customer.getName());
-        }
-        
-        if (!existingCustomer.getEmail().equals(customer.getEmail()) && existsByEmail(customer.getEmail())) {
-            throw new CustomerAlreadyExistsException("email", customer.getEmail());
-        }
-        
-        if (!existingCustomer.getPhoneNumber().equals(customer.getPhoneNumber()) && existsByPhoneNumber(customer.getPhoneNumber())) {
-            throw new CustomerAlreadyExistsException("phone number", customer.getPhoneNumber());
-        }
+        validateUniqueFields(id,
+                changedValue(existingCustomer.getName(), customer.getName()),
+                changedValue(existingCustomer.getEmail(), customer.getEmail()),
+                changedValue(existingCustomer.getPhoneNumber(), customer.getPhoneNumber()));
         
         Customer updatedCustomer = Customer.builder()
                 .id(id)
@@ -59,12 +65,14 @@ public class CustomerService {
                 .phoneNumber(customer.getPhoneNumber())
                 .build();
         
-        return customerRepository.save(updatedCustomer);
+        return saveCustomer(updatedCustomer);
     }
 
     public void deleteCustomer(Long id) {
         Customer customer = getCustomerById(id);
         customerRepository.delete(customer);
+        uniqueFieldFilters.markStale(UniqueField.CUSTOMER_EMAIL);
+        uniqueFieldFilters.markStale(UniqueField.CUSTOMER_PHONE_NUMBER);
     }
 
     public boolean existsByName(String name) {
@@ -72,10 +80,66 @@ public class CustomerService {
     }
 
     public boolean existsByEmail(String email) {
+        if (uniqueFieldFilters.isDefinitelyAbsent(UniqueField.CUSTOMER_EMAIL, email)) {
+            return false;
+        }
         return customerRepository.existsByEmail(email);
     }
 
     public boolean existsByPhoneNumber(String phoneNumber) {
+        if (uniqueFieldFilters.isDefinitelyAbsent(UniqueField.CUSTOMER_PHONE_NUMBER, phoneNumber)) {
+            return false;
+        }
         return customerRepository.existsByPhoneNumber(phoneNumber);
     }
+
+    private void validateUniqueFields(Long excludedId, String name, String email, String phoneNumber) {
+        if (name == null && email == null && phoneNumber == null) {
+            return;
+        }
+        
+        if (name == null && isDefinitelyAbsent(UniqueField.CUSTOMER_EMAIL, email)
+                && isDefinitelyAbsent(UniqueField.CUSTOMER_PHONE_NUMBER, phoneNumber)) {
+            return;
+        }
+        
+        List<NamedUniqueFieldsView> conflicts = customerRepository.findUniqueFieldConflicts(excludedId, name, email, phoneNumber);
+        
+        if (name != null && conflicts.stream().anyMatch(conflict -> name.equals(conflict.getName()))) {
+            throw new CustomerAlreadyExistsException("name", name);
+        }
+        
+        if (email != null && conflicts.stream().anyMatch(conflict -> email.equals(conflict.getEmail()))) {
+            throw new CustomerAlreadyExistsException("email", email);
+        }
+        
+        if (phoneNumber != null && conflicts.stream().anyMatch(conflict -> phoneNumber.equals(conflict.getPhoneNumber()))) {
+            throw new CustomerAlreadyExistsException("phone number", phoneNumber);
+        }
+    }
+
+    private Customer saveCustomer(Customer customer) {
+        try {
+            Customer savedCustomer = customerRepository.save(customer);
+            uniqueFieldFilters.record(UniqueField.CUSTOMER_EMAIL, customer.getEmail());
+            uniqueFieldFilters.record(UniqueField.CUSTOMER_PHONE_NUMBER, customer.getPhoneNumber());
+            return savedCustomer;
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolationOf(ex, Customer.EMAIL_CONSTRAINT)) {
+                throw new CustomerAlreadyExistsException("email", customer.getEmail());
+            }
+            if (ConstraintViolations.isViolationOf(ex, Customer.PHONE_NUMBER_CONSTRAINT)) {
+                throw new CustomerAlreadyExistsException("phone number", customer.getPhoneNumber());
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isDefinitelyAbsent(UniqueField field, String value) {
+        return value == null || uniqueFieldFilters.isDefinitelyAbsent(field, value);
+    }
+
+    private static String changedValue(String currentValue, String newValue) {
+        return currentValue.equals(newValue) ? null : newValue;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.cache.IdempotencyCache;
+import br.com.infnet.edur.usermanagement.cache.IdempotentResponse;
+import br.com.infnet.edur.usermanagement.repository.IdempotencyKeyRepository;
+import br.com.infnet.edur.usermanagement.utils.exceptions.IdempotencyKeyInProgressException;
+import br.com.infnet.edur.usermanagement.utils.exceptions.IdempotencyKeyMismatchException;
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+public class IdempotencyService {
+    
+    private static final String METRIC_NAME = "app.idempotency.requests";
+    private static final int MAX_KEY_LENGTH = 255;
+    
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+    
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${idempotency.ttl:24h}")
+    private Duration ttl;
+    
+    @Value("${idempotency.wait-timeout:10s}")
+    private Duration waitTimeout;
+    
+    public <T> Result<T> execute(String scope, String key, Object request, TypeReference<T> responseType, Supplier<T> action) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_IDEMPOTENCY_KEY.getMessage());
+        }
+        
+        String storageKey = scope + ":" + key;
+        String requestHash = hash(request);
+        CompletableFuture<IdempotentResponse> pending = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> existing = idempotencyCache.putIfAbsent(storageKey, pending);
+        if (existing != null) {
+            String outcome = existing.isDone() ? "replayed" : "coalesced";
+            IdempotentResponse response = await(key, existing);
+            return replay(key, requestHash, response, responseType, outcome);
+        }
+        
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotentResponse> stored = idempotencyKeyRepository.find(storageKey, now);
+            Execution<T> execution = stored.isEmpty() ? run(key, storageKey, requestHash, now, action) : null;
+            if (execution != null) {
+                pending.complete(execution.response);
+                record("executed");
+                return new Result<>(execution.value, false);
+            }
+            
+            IdempotentResponse response = stored.or(() -> idempotencyKeyRepository.find(storageKey, now))
+                    .orElseThrow(() -> new IdempotencyKeyInProgressException(key));
+            pending.complete(response);
+            return replay(key, requestHash, response, responseType, "replayed");
+        } catch (RuntimeException ex) {
+            idempotencyCache.remove(storageKey, pending);
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+    
+    public int deleteExpiredKeys() {
+        return idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+    }
+    
+    private <T> Execution<T> run(String key, String storageKey, String requestHash, LocalDateTime now, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> {
+                if (!idempotencyKeyRepository.claim(storageKey, requestHash, now, now.plus(ttl), waitTimeout)) {
+                    status.setRollbackOnly();
+                    return null;
+                }
+                
+                T value = action.get();
+                byte[] body = serialize(value);
+                idempotencyKeyRepository.complete(storageKey, body);
+                return new Execution<>(value, new IdempotentResponse(requestHash, body));
+            });
+        } catch (PessimisticLockingFailureException | QueryTimeoutException ex) {
+            record("in_progress");
+            throw new IdempotencyKeyInProgressException(key);
+        }
+    }
+    
+    private <T> Result<T> replay(String key, String requestHash, IdempotentResponse response, TypeReference<T> responseType, String outcome) {
+        if (!response.getRequestHash().equals(requestHash)) {
+            record("mismatch");
+            throw new IdempotencyKeyMismatchException(key);
+        }
+        
+        try {
+            T value = objectMapper.readValue(response.getBody(), responseType);
+            record(outcome);
+            return new Result<>(value, true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    
+    private IdempotentResponse await(String key, CompletableFuture<IdempotentResponse> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            record("in_progress");
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(serialize(request)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    
+    private void record(String outcome) {
+        meterRegistry.counter(METRIC_NAME, "outcome", outcome).increment();
+    }
+    
+    @Getter
+    @AllArgsConstructor
+    public static class Result<T> {
+        
+        private final T value;
+        private final boolean replayed;
+    }
+    
+    @AllArgsConstructor
+    private static class Execution<T> {
+        
+        private final T value;
+        private final IdempotentResponse response;
+    }
+}
\ No newline at end of file
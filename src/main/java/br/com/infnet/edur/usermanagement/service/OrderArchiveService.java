@@ -0,0 +1,197 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderArchiveRunDTO;
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderArchiveStatusDTO;
+import br.com.infnet.edur.usermanagement.model.ArchiveCheckpoint;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.ArchiveCheckpointRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderArchiveRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderItemRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderArchiveService {
+    
+    public static final String JOB_NAME = "orders";
+    public static final String ARCHIVED_METRIC = "app.orders.archived";
+    public static final String CHUNK_METRIC = "app.orders.archive.chunks";
+    public static final String TABLE_ROWS_METRIC = "app.orders.table.rows";
+    
+    @Autowired
+    private OrderRepository orderRepository;
+    
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+    
+    @Autowired
+    private ArchiveCheckpointRepository archiveCheckpointRepository;
+    
+    @Autowired
+    private CustomerService customerService;
+    
+    @Autowired
+    private ProductService productService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${orders.archive.min-age:365d}")
+    private Duration minAge;
+    
+    @Value("${orders.archive.chunk-size:500}")
+    private int chunkSize;
+    
+    private final Map<String, AtomicLong> tableRows = new ConcurrentHashMap<>();
+    
+    private volatile OrderArchiveRunDTO lastRun;
+    
+    public synchronized OrderArchiveRunDTO archiveOrders() {
+        Optional<ArchiveCheckpoint> unfinished = archiveCheckpointRepository.findById(JOB_NAME).filter(existing -> !existing.isCompleted());
+        ArchiveCheckpoint checkpoint = unfinished.orElseGet(this::startCheckpoint);
+        
+        Limit limit = Limit.of(chunkSize);
+        long startedAt = System.nanoTime();
+        int chunks = 0;
+        long ordersArchived = 0;
+        long orderItemsArchived = 0;
+        
+        while (true) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            ArchivedChunk chunk = transactionTemplate.execute(status -> archiveChunk(checkpoint, limit));
+            if (chunk.orders == 0) {
+                break;
+            }
+            
+            sample.stop(meterRegistry.timer(CHUNK_METRIC));
+            archivedCounter("orders").increment(chunk.orders);
+            archivedCounter("order_items").increment(chunk.orderItems);
+            chunks++;
+            ordersArchived += chunk.orders;
+            orderItemsArchived += chunk.orderItems;
+            if (chunk.orders < chunkSize) {
+                break;
+            }
+        }
+        
+        checkpoint.complete(LocalDateTime.now());
+        archiveCheckpointRepository.save(checkpoint);
+        refreshTableRows();
+        
+        long durationMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        double ordersPerSecond = durationMillis == 0 ? ordersArchived : ordersArchived * 1000.0 / durationMillis;
+        lastRun = new OrderArchiveRunDTO(checkpoint.getCutoff(), unfinished.isPresent(), chunks, ordersArchived,
+                orderItemsArchived, durationMillis, ordersPerSecond);
+        return lastRun;
+    }
+    
+    public OrderArchiveStatusDTO getStatus() {
+        Map<String, Long> rows = refreshTableRows();
+        return new OrderArchiveStatusDTO(rows, archiveCheckpointRepository.findById(JOB_NAME).orElse(null), lastRun);
+    }
+    
+    public Optional<Order> findArchivedOrder(Long id) {
+        return orderArchiveRepository.findOrder(id).map(this::resolveReferences);
+    }
+    
+    public boolean isArchived(Long id) {
+        return orderArchiveRepository.existsOrder(id);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordTableRows() {
+        refreshTableRows();
+    }
+    
+    private Map<String, Long> refreshTableRows() {
+        Map<String, Long> rows = orderArchiveRepository.countRows();
+        rows.forEach((table, count) -> tableRows.computeIfAbsent(table, this::registerTableGauge).set(count));
+        return rows;
+    }
+    
+    private ArchiveCheckpoint startCheckpoint() {
+        LocalDateTime now = LocalDateTime.now();
+        return archiveCheckpointRepository.save(ArchiveCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .cutoff(now.minus(minAge))
+                .updatedAt(now)
+                .build());
+    }
+    
+    private ArchivedChunk archiveChunk(ArchiveCheckpoint checkpoint, Limit limit) {
+        List<Long> orderIds = orderRepository.findIdsToArchive(checkpoint.getCutoff(), checkpoint.getLastOrderId(), limit);
+        if (orderIds.isEmpty()) {
+            return new ArchivedChunk(0, 0);
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        orderArchiveRepository.copyOrders(orderIds, now);
+        int orderItems = orderArchiveRepository.copyOrderItems(orderIds);
+        orderItemRepository.deleteByOrderIds(orderIds);
+        orderRepository.deleteByIds(orderIds);
+        
+        checkpoint.advance(orderIds.get(orderIds.size() - 1), orderIds.size(), now);
+        archiveCheckpointRepository.save(checkpoint);
+        return new ArchivedChunk(orderIds.size(), orderItems);
+    }
+    
+    private Order resolveReferences(Order order) {
+        order.setCustomer(customerService.getCustomerById(order.getCustomer().getId()));
+        Map<Long, Product> products = productService.getProductsByIds(order.getOrderItems().stream()
+                .map(orderItem -> orderItem.getProduct().getId())
+                .collect(Collectors.toSet()));
+        order.getOrderItems().forEach(orderItem -> orderItem.setProduct(products.get(orderItem.getProduct().getId())));
+        return order;
+    }
+    
+    private Counter archivedCounter(String table) {
+        return Counter.builder(ARCHIVED_METRIC)
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+    
+    private AtomicLong registerTableGauge(String table) {
+        AtomicLong rows = new AtomicLong();
+        Gauge.builder(TABLE_ROWS_METRIC, rows, AtomicLong::get)
+                .tag("table", table)
+                .register(meterRegistry);
+        return rows;
+    }
+    
+    private static class ArchivedChunk {
+        
+        private final int orders;
+        private final int orderItems;
+        
+        ArchivedChunk(int orders, int orderItems) {
+            this.orders = orders;
+            this.orderItems = orderItems;
+        }
+    }
+}
\ No newline at end of file
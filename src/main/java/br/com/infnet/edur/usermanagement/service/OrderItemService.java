@@ -1,17 +1,31 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.concurrency.RetryOnConflict;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
 import br.com.infnet.edur.usermanagement.model.Order;
 import br.com.infnet.edur.usermanagement.model.OrderItem;
 import br.com.infnet.edur.usermanagement.model.Product;
 import br.com.infnet.edur.usermanagement.repository.OrderItemRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
 import br.com.infnet.edur.usermanagement.utils.exceptions.OrderValidationException;
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderItemService {
@@ -22,10 +36,22 @@ public class OrderItemService {
     @Autowired
     private ProductService productService;
     
+    @Autowired
+    private OrderRepository orderRepository;
+    
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+    
     public List<OrderItem> getAllOrderItems() {
         return orderItemRepository.findAll();
     }
     
+    public CursorPage<OrderItem> getOrderItemsPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<OrderItem> orderItems = orderItemRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(orderItems, pageSize, OrderItem::getId);
+    }
+    
     public OrderItem getOrderItemById(Long id) {
         return orderItemRepository.findById(id)
                 .orElseThrow(() -> new OrderValidationException("OrderItem not found with ID: " + id));
@@ -34,56 +60,117 @@ public class OrderItemService {
     @Transactional
     public OrderItem createOrderItem(Order order, OrderItemInputDTO orderItemInputDTO) {
         Product product = productService.getProductById(orderItemInputDTO.getProductId());
-        
-        OrderItem orderItem = OrderItem.builder()
-                .product(product)
-                .quantity(orderItemInputDTO.getQuantity())
-                .unitPrice(product.getUnitPrice())
-                .order(order)
-                .build();
-        
-        return orderItemRepository.save(orderItem);
+        OrderItem savedOrderItem = orderItemRepository.save(buildOrderItem(order, product, orderItemInputDTO.getQuantity()));
+        orderRepository.adjustTotalAmount(order.getId(), savedOrderItem.getTotalPrice());
+        salesSummaryService.recordItemAdded(savedOrderItem);
+        return savedOrderItem;
     }
     
+    @RetryOnConflict
     @Transactional
     public OrderItem updateOrderItem(Long id, OrderItemInputDTO orderItemInputDTO) {
-        OrderItem existingOrderItem = getOrderItemById(id);
+        OrderItem orderItem = getOrderItemById(id);
         Product product = productService.getProductById(orderItemInputDTO.getProductId());
+        BigDecimal previousTotalPrice = orderItem.getTotalPrice();
         
-        OrderItem updatedOrderItem = OrderItem.builder()
-                .id(id)
-                .product(product)
-                .quantity(orderItemInputDTO.getQuantity())
-                .unitPrice(product.getUnitPrice())
-                .order(existingOrderItem.getOrder())
-                .build();
+        salesSummaryService.recordItemRemoved(orderItem);
+        orderItem.setProduct(product);
+        orderItem.setQuantity(orderItemInputDTO.getQuantity());
+        orderItem.setUnitPrice(product.getUnitPrice());
+        salesSummaryService.recordItemAdded(orderItem);
         
-        return orderItemRepository.save(updatedOrderItem);
+        orderRepository.adjustTotalAmount(orderItem.getOrder().getId(), orderItem.getTotalPrice().subtract(previousTotalPrice));
+        return orderItem;
     }
     
+    @RetryOnConflict
     @Transactional
     public void deleteOrderItem(Long id) {
         OrderItem orderItem = getOrderItemById(id);
         orderItemRepository.delete(orderItem);
+        orderRepository.adjustTotalAmount(orderItem.getOrder().getId(), orderItem.getTotalPrice().negate());
+        salesSummaryService.recordItemRemoved(orderItem);
     }
     
+    @Transactional
     public List<OrderItem> createOrderItemsForOrder(Order order, List<OrderItemInputDTO> orderItemInputDTOs) {
-        return orderItemInputDTOs.stream()
-                .map(itemDTO -> createOrderItem(order, itemDTO))
+        Set<Long> productIds = orderItemInputDTOs.stream()
+                .map(OrderItemInputDTO::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Product> products = productService.getProductsByIds(productIds);
+        
+        List<OrderItem> orderItems = orderItemInputDTOs.stream()
+                .map(itemDTO -> buildOrderItem(order, products.get(itemDTO.getProductId()), itemDTO.getQuantity()))
                 .toList();
+        
+        return orderItemRepository.saveAll(orderItems);
     }
     
     @Transactional
-    public OrderItem addItemToOrder(Long orderId, OrderItemInputDTO orderItemInputDTO) {
-        Product product = productService.getProductById(orderItemInputDTO.getProductId());
+    public boolean mergeOrderItems(Order order, Map<Long, Integer> quantities, boolean removeUnlisted) {
+        Set<Long> productIds = quantities.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Product> products = productService.getProductsByIds(productIds);
+        
+        Map<Long, OrderItem> matchedItems = new HashMap<>();
+        List<OrderItem> removedItems = new ArrayList<>();
+        List<OrderItem> previousItems = new ArrayList<>();
+        List<OrderItem> currentItems = new ArrayList<>();
+        
+        for (OrderItem orderItem : order.getOrderItems()) {
+            Long productId = orderItem.getProduct().getId();
+            Integer quantity = quantities.get(productId);
+            if (quantity == null) {
+                if (removeUnlisted) {
+                    removedItems.add(orderItem);
+                }
+            } else if (quantity == 0 || matchedItems.containsKey(productId)) {
+                removedItems.add(orderItem);
+            } else {
+                matchedItems.put(productId, orderItem);
+                Product product = products.get(productId);
+                if (!orderItem.getQuantity().equals(quantity) || orderItem.getUnitPrice().compareTo(product.getUnitPrice()) != 0) {
+                    previousItems.add(buildOrderItem(order, orderItem.getProduct(), orderItem.getQuantity(), orderItem.getUnitPrice()));
+                    orderItem.setQuantity(quantity);
+                    orderItem.setUnitPrice(product.getUnitPrice());
+                    currentItems.add(orderItem);
+                }
+            }
+        }
+        
+        List<OrderItem> addedItems = productIds.stream()
+                .filter(productId -> !matchedItems.containsKey(productId))
+                .map(productId -> buildOrderItem(order, products.get(productId), quantities.get(productId)))
+                .toList();
         
-        OrderItem orderItem = OrderItem.builder()
+        if (!removedItems.isEmpty()) {
+            orderItemRepository.deleteAll(removedItems);
+            Set<OrderItem> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            removed.addAll(removedItems);
+            order.getOrderItems().removeIf(removed::contains);
+            previousItems.addAll(removedItems);
+        }
+        if (!addedItems.isEmpty()) {
+            order.getOrderItems().addAll(orderItemRepository.saveAll(addedItems));
+            currentItems.addAll(addedItems);
+        }
+        
+        salesSummaryService.recordItemsChanged(order, previousItems, currentItems);
+        return !previousItems.isEmpty() || !currentItems.isEmpty();
+    }
+    
+    private OrderItem buildOrderItem(Order order, Product product, Integer quantity) {
+        return buildOrderItem(order, product, quantity, product.getUnitPrice());
+    }
+    
+    private OrderItem buildOrderItem(Order order, Product product, Integer quantity, BigDecimal unitPrice) {
+        return OrderItem.builder()
                 .product(product)
-                .quantity(orderItemInputDTO.getQuantity())
-                .unitPrice(product.getUnitPrice())
-                .order(Order.builder().id(orderId).build())
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .order(order)
                 .build();
-        
-        return orderItemRepository.save(orderItem);
     }
 }
\ No newline at end of file
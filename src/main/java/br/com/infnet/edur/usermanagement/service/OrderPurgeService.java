@@ -0,0 +1,96 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderPurgeProgressDTO;
+import br.com.infnet.edur.usermanagement.repository.OrderItemRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Service
+public class OrderPurgeService {
+    
+    private static final LocalDate EARLIEST_DATE = LocalDate.EPOCH;
+    
+    @Autowired
+    private OrderRepository orderRepository;
+    
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    
+    @Autowired
+    private CustomerService customerService;
+    
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${orders.purge.chunk-size:500}")
+    private int chunkSize;
+    
+    public LocalDate validateOrderDateRange(LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : EARLIEST_DATE;
+        if (start.isAfter(to)) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PURGE_RANGE.getMessage() + ": " + start + " > " + to);
+        }
+        return start;
+    }
+    
+    public void validateCustomer(Long customerId) {
+        customerService.getCustomerById(customerId);
+    }
+    
+    public void purgeByOrderDate(LocalDate from, LocalDate to, Consumer<OrderPurgeProgressDTO> listener) {
+        LocalDate start = validateOrderDateRange(from, to);
+        purge(limit -> orderRepository.findIdsByOrderDateRange(start.atStartOfDay(), to.plusDays(1).atStartOfDay(), limit), listener);
+    }
+    
+    public void purgeByCustomer(Long customerId, Consumer<OrderPurgeProgressDTO> listener) {
+        validateCustomer(customerId);
+        purge(limit -> orderRepository.findIdsByCustomerId(customerId, limit), listener);
+    }
+    
+    private void purge(Function<Limit, List<Long>> nextChunk, Consumer<OrderPurgeProgressDTO> listener) {
+        Limit limit = Limit.of(chunkSize);
+        int chunks = 0;
+        long ordersDeleted = 0;
+        long orderItemsDeleted = 0;
+        
+        while (true) {
+            List<Long> orderIds = nextChunk.apply(limit);
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            
+            Integer itemsDeleted = transactionTemplate.execute(status -> deleteChunk(orderIds));
+            chunks++;
+            ordersDeleted += orderIds.size();
+            orderItemsDeleted += itemsDeleted;
+            
+            boolean completed = orderIds.size() < chunkSize;
+            listener.accept(new OrderPurgeProgressDTO(chunks, ordersDeleted, orderItemsDeleted, completed));
+            if (completed) {
+                return;
+            }
+        }
+        
+        listener.accept(new OrderPurgeProgressDTO(chunks, ordersDeleted, orderItemsDeleted, true));
+    }
+    
+    private int deleteChunk(List<Long> orderIds) {
+        salesSummaryService.recordOrdersPurged(orderIds);
+        int itemsDeleted = orderItemRepository.deleteByOrderIds(orderIds);
+        orderRepository.deleteByIds(orderIds);
+        return itemsDeleted;
+    }
+}
\ No newline at end of file
@@ -1,51 +1,154 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.SingleFlight;
+import br.com.infnet.edur.usermanagement.concurrency.RetryOnConflict;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
 import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemPatchDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderPatchDTO;
 import br.com.infnet.edur.usermanagement.model.Order;
 import br.com.infnet.edur.usermanagement.model.OrderItem;
 import br.com.infnet.edur.usermanagement.model.Product;
 import br.com.infnet.edur.usermanagement.model.Customer;
 import br.com.infnet.edur.usermanagement.repository.OrderRepository;
 import br.com.infnet.edur.usermanagement.repository.OrderItemRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.OrderTagView;
+import br.com.infnet.edur.usermanagement.utils.exceptions.OrderArchivedException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.OrderNotFoundException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.OrderValidationException;
+import br.com.infnet.edur.usermanagement.utils.exceptions.OrderVersionMismatchException;
+import br.com.infnet.edur.usermanagement.utils.etag.OrderEntityTags;
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
     
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    
     @Autowired
     private OrderRepository orderRepository;
     
     @Autowired
     private OrderItemRepository orderItemRepository;
     
+    @Autowired
+    private SingleFlight singleFlight;
+    
     @Autowired
     private CustomerService customerService;
     
     @Autowired
     private OrderItemService orderItemService;
+    
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+    
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public List<Order> getAllOrders() {
         return orderRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Order> getOrdersPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<Order> orders = orderRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        fetchOrderItems(orders);
+        return CursorPage.of(orders, pageSize, Order::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportOrders(Consumer<Order> consumer) {
+        try (Stream<Order> orders = orderRepository.streamAllWithCustomer()) {
+            List<Order> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            orders.forEach(order -> {
+                chunk.add(order);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exportChunk(chunk, consumer);
+                }
+            });
+            exportChunk(chunk, consumer);
+        }
+    }
+
     public Order getOrderById(Long id) {
-        return orderRepository.findById(id)
-                .orElseThrow(() -> new OrderNotFoundException(id));
+        return singleFlight.execute("order", id, () -> detach(orderRepository.findById(id)
+                .or(() -> orderArchiveService.findArchivedOrder(id))
+                .orElseThrow(() -> new OrderNotFoundException(id))));
+    }
+    
+    public String getOrderTag(Long id) {
+        List<OrderTagView> rows = orderRepository.findTagViewsById(id);
+        if (rows.isEmpty()) {
+            return orderArchiveService.findArchivedOrder(id)
+                    .map(OrderEntityTags::of)
+                    .orElseThrow(() -> new OrderNotFoundException(id));
+        }
+        
+        OrderTagView first = rows.get(0);
+        Order order = Order.builder()
+                .version(first.getVersion())
+                .customer(Customer.builder()
+                        .id(first.getCustomerId())
+                        .name(first.getCustomerName())
+                        .email(first.getCustomerEmail())
+                        .phoneNumber(first.getCustomerPhoneNumber())
+                        .build())
+                .build();
+        rows.stream()
+                .filter(row -> row.getItemId() != null)
+                .map(row -> OrderItem.builder()
+                        .id(row.getItemId())
+                        .version(row.getItemVersion())
+                        .quantity(row.getQuantity())
+                        .unitPrice(row.getUnitPrice())
+                        .product(Product.builder()
+                                .id(row.getProductId())
+                                .name(row.getProductName())
+                                .unitPrice(row.getProductUnitPrice())
+                                .build())
+                        .build())
+                .forEach(order.getOrderItems()::add);
+        return OrderEntityTags.of(order);
     }
     
     public List<Order> getOrdersByCustomerId(Long customerId) {
         customerService.getCustomerById(customerId);
         return orderRepository.findByCustomerId(customerId);
     }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<Order> getOrdersPageByCustomerId(Long customerId, String cursor, Integer size) {
+        customerService.getCustomerById(customerId);
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<Order> orders = orderRepository.findByCustomerIdAndIdGreaterThanOrderByIdAsc(
+                customerId, KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        fetchOrderItems(orders);
+        return CursorPage.of(orders, pageSize, Order::getId);
+    }
 
     @Transactional
     public Order createOrder(OrderInputDTO orderInputDTO) {
@@ -65,39 +168,109 @@ public class OrderService {
         
         List<OrderItem> orderItems = orderItemService.createOrderItemsForOrder(savedOrder, orderInputDTO.getOrderItems());
         savedOrder.getOrderItems().addAll(orderItems);
+        savedOrder.recalculateTotalAmount();
+        salesSummaryService.recordOrderCreated(savedOrder);
         
         return savedOrder;
     }
 
+    @RetryOnConflict
     @Transactional
-    public Order updateOrder(Long id, OrderInputDTO orderInputDTO) {
-        Order existingOrder = getOrderById(id);
+    public Order updateOrder(Long id, OrderInputDTO orderInputDTO, Set<Long> expectedVersions) {
+        Order existingOrder = getActiveOrder(id);
+        verifyVersion(existingOrder, expectedVersions);
         Customer customer = customerService.getCustomerById(orderInputDTO.getCustomerId());
         
         if (orderInputDTO.getOrderItems().isEmpty()) {
             throw new OrderValidationException("Order must have at least one item");
         }
         
-        orderItemRepository.deleteAll(existingOrder.getOrderItems());
-        existingOrder.getOrderItems().clear();
-        
-        List<OrderItem> orderItems = orderItemService.createOrderItemsForOrder(existingOrder, orderInputDTO.getOrderItems());
-        existingOrder.getOrderItems().addAll(orderItems);
-        
-        Order updatedOrder = Order.builder()
-                .id(id)
-                .customer(customer)
-                .orderDate(existingOrder.getOrderDate())
-                .orderItems(orderItems)
-                .build();
+        Map<Long, Integer> quantities = orderInputDTO.getOrderItems().stream()
+                .collect(Collectors.toMap(OrderItemInputDTO::getProductId, OrderItemInputDTO::getQuantity, Integer::sum, LinkedHashMap::new));
+        return applyOrderChanges(existingOrder, customer, quantities, true);
+    }
+
+    @RetryOnConflict
+    @Transactional
+    public Order patchOrder(Long id, OrderPatchDTO orderPatchDTO, Set<Long> expectedVersions) {
+        Order existingOrder = getActiveOrder(id);
+        verifyVersion(existingOrder, expectedVersions);
+        Customer customer = orderPatchDTO.getCustomerId() == null
+                ? existingOrder.getCustomer()
+                : customerService.getCustomerById(orderPatchDTO.getCustomerId());
         
-        return orderRepository.save(updatedOrder);
+        Map<Long, Integer> quantities = orderPatchDTO.getOrderItems() == null
+                ? Map.of()
+                : orderPatchDTO.getOrderItems().stream()
+                        .collect(Collectors.toMap(OrderItemPatchDTO::getProductId, OrderItemPatchDTO::getQuantity, (previous, next) -> next, LinkedHashMap::new));
+        return applyOrderChanges(existingOrder, customer, quantities, false);
     }
 
+    @RetryOnConflict
     @Transactional
-    public void deleteOrder(Long id) {
-        Order order = getOrderById(id);
+    public void deleteOrder(Long id, Set<Long> expectedVersions) {
+        Order order = getActiveOrder(id);
+        verifyVersion(order, expectedVersions);
+        salesSummaryService.recordOrderDeleted(order);
         orderItemRepository.deleteAll(order.getOrderItems());
         orderRepository.delete(order);
     }
+
+    public Order getActiveOrder(Long id) {
+        return orderRepository.findById(id)
+                .orElseThrow(() -> orderArchiveService.isArchived(id) ? new OrderArchivedException(id) : new OrderNotFoundException(id));
+    }
+
+    private Order applyOrderChanges(Order order, Customer customer, Map<Long, Integer> quantities, boolean removeUnlisted) {
+        BigDecimal previousTotalAmount = order.getTotalAmount();
+        boolean customerChanged = !customer.getId().equals(order.getCustomer().getId());
+        if (customerChanged) {
+            salesSummaryService.recordOrderDeleted(order);
+            order.setCustomer(customer);
+            salesSummaryService.recordOrderCreated(order);
+        }
+        
+        boolean itemsChanged = orderItemService.mergeOrderItems(order, quantities, removeUnlisted);
+        if (order.getOrderItems().isEmpty()) {
+            throw new OrderValidationException("Order must have at least one item");
+        }
+        
+        order.recalculateTotalAmount();
+        if (itemsChanged && !customerChanged && previousTotalAmount.compareTo(order.getTotalAmount()) == 0) {
+            entityManager.lock(order, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        }
+        return order;
+    }
+
+    private Order detach(Order order) {
+        entityManager.detach(order);
+        entityManager.detach(order.getCustomer());
+        order.getOrderItems().forEach(orderItem -> entityManager.detach(orderItem.getProduct()));
+        return order;
+    }
+
+    private void verifyVersion(Order order, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(order.getVersion())) {
+            throw new OrderVersionMismatchException(order.getId(), expectedVersions, order.getVersion());
+        }
+    }
+
+    private void fetchOrderItems(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        
+        orderRepository.findWithOrderItemsByIdIn(orders.stream().map(Order::getId).toList());
+    }
+    
+    private void exportChunk(List<Order> chunk, Consumer<Order> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        
+        fetchOrderItems(chunk);
+        chunk.forEach(consumer);
+        chunk.clear();
+        entityManager.clear();
+    }
 }
\ No newline at end of file
@@ -1,27 +1,64 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.ProductCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseBodyCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseRegion;
+import br.com.infnet.edur.usermanagement.cache.SingleFlight;
+import br.com.infnet.edur.usermanagement.dto.reponse.CacheStatsDTO;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.model.Product;
 import br.com.infnet.edur.usermanagement.repository.ProductRepository;
 import br.com.infnet.edur.usermanagement.utils.exceptions.ProductAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.ProductNotFoundException;
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ProductService {
     
     @Autowired
     private ProductRepository productRepository;
+    
+    @Autowired
+    private ProductCache productCache;
+    
+    @Autowired
+    private SingleFlight singleFlight;
+    
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
 
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
+    public CursorPage<Product> getProductsPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<Product> products = productRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(products, pageSize, Product::getId);
+    }
+
     public Product getProductById(Long id) {
-        return productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id));
+        return singleFlight.execute("product", id, () -> productCache.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id)));
+    }
+
+    public Map<Long, Product> getProductsByIds(Collection<Long> ids) {
+        Map<Long, Product> products = productCache.findAllById(ids);
+        
+        for (Long id : ids) {
+            if (!products.containsKey(id)) {
+                throw new ProductNotFoundException(id);
+            }
+        }
+        
+        return products;
     }
 
     public Product createProduct(Product product) {
@@ -29,7 +66,9 @@ public class ProductService {
             throw new ProductAlreadyExistsException("name", product.getName());
         }
         
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        responseBodyCache.invalidate(ResponseRegion.PRODUCTS);
+        return savedProduct;
     }
 
     public Product updateProduct(Long id, Product product) {
@@ -45,15 +84,24 @@ public class ProductService {
                 .unitPrice(product.getUnitPrice())
                 .build();
         
-        return productRepository.save(updatedProduct);
+        Product savedProduct = productRepository.save(updatedProduct);
+        productCache.evict(id);
+        responseBodyCache.invalidate(ResponseRegion.PRODUCTS);
+        return savedProduct;
     }
 
     public void deleteProduct(Long id) {
         Product product = getProductById(id);
         productRepository.delete(product);
+        productCache.evict(id);
+        responseBodyCache.invalidate(ResponseRegion.PRODUCTS);
     }
 
     public boolean existsByName(String name) {
         return productRepository.existsByName(name);
     }
+
+    public CacheStatsDTO getCacheStats() {
+        return productCache.stats();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.request.ReportGranularity;
+import br.com.infnet.edur.usermanagement.repository.CustomerDailySalesRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductDailySalesRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.CustomerRevenueView;
+import br.com.infnet.edur.usermanagement.repository.projection.PeriodRevenueView;
+import br.com.infnet.edur.usermanagement.repository.projection.ProductSalesView;
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class SalesReportService {
+    
+    public static final int DEFAULT_RANKING_LIMIT = 100;
+    public static final int DEFAULT_TOP_LIMIT = 10;
+    public static final int MAX_LIMIT = 1000;
+    
+    private static final LocalDate EARLIEST_DATE = LocalDate.EPOCH;
+    
+    @Autowired
+    private ProductDailySalesRepository productDailySalesRepository;
+    
+    @Autowired
+    private CustomerDailySalesRepository customerDailySalesRepository;
+    
+    public List<CustomerRevenueView> getRevenueByCustomer(LocalDate from, LocalDate to, Integer limit) {
+        return customerDailySalesRepository.sumRevenueByCustomer(startOf(from, to), endOf(to), resolveLimit(limit, DEFAULT_RANKING_LIMIT));
+    }
+    
+    public List<ProductSalesView> getRevenueByProduct(LocalDate from, LocalDate to, Integer limit) {
+        return productDailySalesRepository.sumRevenueByProduct(startOf(from, to), endOf(to), resolveLimit(limit, DEFAULT_RANKING_LIMIT));
+    }
+    
+    public List<ProductSalesView> getTopProductsByQuantity(LocalDate from, LocalDate to, Integer limit) {
+        return productDailySalesRepository.findTopProductsByQuantity(startOf(from, to), endOf(to), resolveLimit(limit, DEFAULT_TOP_LIMIT));
+    }
+    
+    public List<PeriodRevenueView> getRevenueByPeriod(ReportGranularity granularity, LocalDate from, LocalDate to) {
+        LocalDate start = startOf(from, to);
+        LocalDate end = endOf(to);
+        return switch (granularity) {
+            case DAY -> customerDailySalesRepository.sumRevenueByDay(start, end);
+            case WEEK -> customerDailySalesRepository.sumRevenueByWeek(start, end);
+            case MONTH -> customerDailySalesRepository.sumRevenueByMonth(start, end);
+        };
+    }
+    
+    private LocalDate startOf(LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : EARLIEST_DATE;
+        if (to != null && start.isAfter(to)) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_REPORT_RANGE.getMessage() + ": " + start + " > " + to);
+        }
+        return start;
+    }
+    
+    private LocalDate endOf(LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return end.plusDays(1);
+    }
+    
+    private Limit resolveLimit(Integer limit, int defaultLimit) {
+        if (limit == null) {
+            return Limit.of(defaultLimit);
+        }
+        
+        if (limit < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_REPORT_LIMIT.getMessage() + ": " + limit);
+        }
+        
+        return Limit.of(Math.min(limit, MAX_LIMIT));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.SalesSummaryCheckDTO;
+import br.com.infnet.edur.usermanagement.model.CustomerDailySales;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.ProductDailySales;
+import br.com.infnet.edur.usermanagement.repository.CustomerDailySalesRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductDailySalesRepository;
+import br.com.infnet.edur.usermanagement.repository.SalesSummaryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+@Service
+public class SalesSummaryService {
+    
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+    
+    @Autowired
+    private SalesSummaryRepository salesSummaryRepository;
+    
+    @Autowired
+    private ProductDailySalesRepository productDailySalesRepository;
+    
+    @Autowired
+    private CustomerDailySalesRepository customerDailySalesRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrderCreated(Order order) {
+        applyDeltas(order, 1, List.of(), order.getOrderItems());
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrderDeleted(Order order) {
+        applyDeltas(order, -1, order.getOrderItems(), List.of());
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordItemAdded(OrderItem orderItem) {
+        applyDeltas(orderItem.getOrder(), 0, List.of(), List.of(orderItem));
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordItemRemoved(OrderItem orderItem) {
+        applyDeltas(orderItem.getOrder(), 0, List.of(orderItem), List.of());
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordItemsChanged(Order order, Collection<OrderItem> removedItems, Collection<OrderItem> addedItems) {
+        if (removedItems.isEmpty() && addedItems.isEmpty()) {
+            return;
+        }
+        applyDeltas(order, 0, removedItems, addedItems);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrdersPurged(Collection<Long> orderIds) {
+        salesSummaryRepository.subtractOrders(orderIds);
+    }
+    
+    @Transactional
+    public void rebuild() {
+        entityManager.flush();
+        salesSummaryRepository.rebuild();
+    }
+    
+    @Transactional(readOnly = true)
+    public SalesSummaryCheckDTO checkConsistency() {
+        List<String> mismatches = new ArrayList<>();
+        
+        List<ProductDailySales> productRows = productDailySalesRepository.findAll();
+        compare("product", productRows, salesSummaryRepository.scanProductSales(),
+                ProductDailySales::getKey, ProductDailySales::isEmpty, ProductDailySales::matches, mismatches);
+        
+        List<CustomerDailySales> customerRows = customerDailySalesRepository.findAll();
+        compare("customer", customerRows, salesSummaryRepository.scanCustomerSales(),
+                CustomerDailySales::getKey, CustomerDailySales::isEmpty, CustomerDailySales::matches, mismatches);
+        
+        return new SalesSummaryCheckDTO(mismatches.isEmpty(), productRows.size(), customerRows.size(), mismatches.size(),
+                mismatches.subList(0, Math.min(mismatches.size(), MAX_REPORTED_MISMATCHES)));
+    }
+    
+    private void applyDeltas(Order order, long orderCount, Collection<OrderItem> removedItems, Collection<OrderItem> addedItems) {
+        LocalDate salesDate = order.getOrderDate().toLocalDate();
+        Map<Long, ProductDailySales> productDeltas = new TreeMap<>();
+        BigDecimal revenue = collectDeltas(removedItems, -1, salesDate, productDeltas)
+                .add(collectDeltas(addedItems, 1, salesDate, productDeltas));
+        
+        if (!productDeltas.isEmpty()) {
+            salesSummaryRepository.applyProductDeltas(productDeltas.values());
+        }
+        salesSummaryRepository.applyCustomerDelta(CustomerDailySales.builder()
+                .customerId(order.getCustomer().getId())
+                .salesDate(salesDate)
+                .orderCount(orderCount)
+                .revenue(revenue)
+                .build());
+    }
+    
+    private BigDecimal collectDeltas(Collection<OrderItem> orderItems, int sign, LocalDate salesDate,
+                                     Map<Long, ProductDailySales> productDeltas) {
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (OrderItem orderItem : orderItems) {
+            BigDecimal itemRevenue = orderItem.getTotalPrice().multiply(BigDecimal.valueOf(sign));
+            productDeltas.computeIfAbsent(orderItem.getProduct().getId(), productId -> ProductDailySales.builder()
+                            .productId(productId)
+                            .salesDate(salesDate)
+                            .build())
+                    .add((long) sign * orderItem.getQuantity(), itemRevenue);
+            revenue = revenue.add(itemRevenue);
+        }
+        return revenue;
+    }
+    
+    private <K, T> void compare(String type, List<T> summaryRows, List<T> scannedRows, Function<T, K> key,
+                                Predicate<T> empty, BiPredicate<T, T> matches, List<String> mismatches) {
+        Map<K, T> summary = new HashMap<>();
+        summaryRows.stream().filter(empty.negate()).forEach(row -> summary.put(key.apply(row), row));
+        Map<K, T> scanned = new HashMap<>();
+        scannedRows.forEach(row -> scanned.put(key.apply(row), row));
+        
+        Set<K> keys = new HashSet<>(summary.keySet());
+        keys.addAll(scanned.keySet());
+        for (K rowKey : keys) {
+            T summaryRow = summary.get(rowKey);
+            T scannedRow = scanned.get(rowKey);
+            if (summaryRow == null || scannedRow == null || !matches.test(summaryRow, scannedRow)) {
+                mismatches.add(type + " " + rowKey + ": summary=" + summaryRow + ", scan=" + scannedRow);
+            }
+        }
+    }
+}
\ No newline at end of file
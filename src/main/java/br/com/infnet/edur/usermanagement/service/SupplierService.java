@@ -1,10 +1,20 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.ResponseBodyCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseRegion;
+import br.com.infnet.edur.usermanagement.cache.UniqueField;
+import br.com.infnet.edur.usermanagement.cache.UniqueFieldFilters;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.model.Supplier;
 import br.com.infnet.edur.usermanagement.repository.SupplierRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.NamedUniqueFieldsView;
+import br.com.infnet.edur.usermanagement.utils.exceptions.ConstraintViolations;
 import br.com.infnet.edur.usermanagement.utils.exceptions.SupplierAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.SupplierNotFoundException;
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,44 +24,41 @@ public class SupplierService {
     
     @Autowired
     private SupplierRepository supplierRepository;
+    
+    @Autowired
+    private UniqueFieldFilters uniqueFieldFilters;
+    
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
 
 
     public List<Supplier> getAllSuppliers() {
         return supplierRepository.findAll();
     }
 
+    public CursorPage<Supplier> getSuppliersPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<Supplier> suppliers = supplierRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(suppliers, pageSize, Supplier::getId);
+    }
+
     public Supplier getSupplierById(Long id) {
         return supplierRepository.findById(id)
                 .orElseThrow(() -> new SupplierNotFoundException(id));
     }
 
     public Supplier createSupplier(Supplier supplier) {
-        
-        if (existsByEmail(supplier.getEmail())) {
-            throw new SupplierAlreadyExistsException("email", supplier.getEmail());
-        }
-        
-        if (existsByPhoneNumber(supplier.getPhoneNumber())) {
-            throw new SupplierAlreadyExistsException("phone number", supplier.getPhoneNumber());
-        }
-        
-        return supplierRepository.save(supplier);
+        validateUniqueFields(null, null, supplier.getEmail(), supplier.getPhoneNumber());
+        return saveSupplier(supplier);
     }
 
     public Supplier updateSupplier(Long id, Supplier supplier) {
         Supplier existingSupplier = getSupplierById(id);
         
-        if (!existingSupplier.getName().equals(supplier.getName()) && existsByName(supplier.getName())) {
-            throw new SupplierAlreadyExistsException("name", supplier.getName());
-        }
-        
-        if (!existingSupplier.getEmail().equals(supplier.getEmail()) && existsByEmail(supplier.getEmail())) {
-            throw new SupplierAlreadyExistsException("email", supplier.getEmail());
-        }
-        
-        if (!existingSupplier.getPhoneNumber().equals(supplier.getPhoneNumber()) && existsByPhoneNumber(supplier.getPhoneNumber())) {
-            throw new SupplierAlreadyExistsException("phone number", supplier.getPhoneNumber());
-        }
+        validateUniqueFields(id,
+                changedValue(existingSupplier.getName(), supplier.getName()),
+                changedValue(existingSupplier.getEmail(), supplier.getEmail()),
+                changedValue(existingSupplier.getPhoneNumber(), supplier.getPhoneNumber()));
         
         Supplier updatedSupplier = Supplier.builder()
                 .id(id)
@@ -60,12 +67,15 @@ public class SupplierService {
                 .phoneNumber(supplier.getPhoneNumber())
                 .build();
         
-        return supplierRepository.save(updatedSupplier);
+        return saveSupplier(updatedSupplier);
     }
 
     public void deleteSupplier(Long id) {
         Supplier supplier = getSupplierById(id);
         supplierRepository.delete(supplier);
+        responseBodyCache.invalidate(ResponseRegion.SUPPLIERS);
+        uniqueFieldFilters.markStale(UniqueField.SUPPLIER_EMAIL);
+        uniqueFieldFilters.markStale(UniqueField.SUPPLIER_PHONE_NUMBER);
     }
 
     public boolean existsByName(String name) {
@@ -73,10 +83,67 @@ public class SupplierService {
     }
 
     public boolean existsByEmail(String email) {
+        if (uniqueFieldFilters.isDefinitelyAbsent(UniqueField.SUPPLIER_EMAIL, email)) {
+            return false;
+        }
         return supplierRepository.existsByEmail(email);
     }
 
     public boolean existsByPhoneNumber(String phoneNumber) {
+        if (uniqueFieldFilters.isDefinitelyAbsent(UniqueField.SUPPLIER_PHONE_NUMBER, phoneNumber)) {
+            return false;
+        }
         return supplierRepository.existsByPhoneNumber(phoneNumber);
     }
+
+    private void validateUniqueFields(Long excludedId, String name, String email, String phoneNumber) {
+        if (name == null && email == null && phoneNumber == null) {
+            return;
+        }
+        
+        if (name == null && isDefinitelyAbsent(UniqueField.SUPPLIER_EMAIL, email)
+                && isDefinitelyAbsent(UniqueField.SUPPLIER_PHONE_NUMBER, phoneNumber)) {
+            return;
+        }
+        
+        List<NamedUniqueFieldsView> conflicts = supplierRepository.findUniqueFieldConflicts(excludedId, name, email, phoneNumber);
+        
+        if (name != null && conflicts.stream().anyMatch(conflict -> name.equals(conflict.getName()))) {
+            throw new SupplierAlreadyExistsException("name", name);
+        }
+        
+        if (email != null && conflicts.stream().anyMatch(conflict -> email.equals(conflict.getEmail()))) {
+            throw new SupplierAlreadyExistsException("email", email);
+        }
+        
+        if (phoneNumber != null && conflicts.stream().anyMatch(conflict -> phoneNumber.equals(conflict.getPhoneNumber()))) {
+            throw new SupplierAlreadyExistsException("phone number", phoneNumber);
+        }
+    }
+
+    private Supplier saveSupplier(Supplier supplier) {
+        try {
+            Supplier savedSupplier = supplierRepository.save(supplier);
+            uniqueFieldFilters.record(UniqueField.SUPPLIER_EMAIL, supplier.getEmail());
+            uniqueFieldFilters.record(UniqueField.SUPPLIER_PHONE_NUMBER, supplier.getPhoneNumber());
+            responseBodyCache.invalidate(ResponseRegion.SUPPLIERS);
+            return savedSupplier;
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolationOf(ex, Supplier.EMAIL_CONSTRAINT)) {
+                throw new SupplierAlreadyExistsException("email", supplier.getEmail());
+            }
+            if (ConstraintViolations.isViolationOf(ex, Supplier.PHONE_NUMBER_CONSTRAINT)) {
+                throw new SupplierAlreadyExistsException("phone number", supplier.getPhoneNumber());
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isDefinitelyAbsent(UniqueField field, String value) {
+        return value == null || uniqueFieldFilters.isDefinitelyAbsent(field, value);
+    }
+
+    private static String changedValue(String currentValue, String newValue) {
+        return currentValue.equals(newValue) ? null : newValue;
+    }
 }
\ No newline at end of file
@@ -1,10 +1,18 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.UniqueField;
+import br.com.infnet.edur.usermanagement.cache.UniqueFieldFilters;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.model.User;
 import br.com.infnet.edur.usermanagement.repository.UserRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.UniqueFieldsView;
+import br.com.infnet.edur.usermanagement.utils.exceptions.ConstraintViolations;
 import br.com.infnet.edur.usermanagement.utils.exceptions.UserAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.UserNotFoundException;
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,39 +22,37 @@ public class UserService {
     
     @Autowired
     private UserRepository userRepository;
+    
+    @Autowired
+    private UniqueFieldFilters uniqueFieldFilters;
 
 
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    public CursorPage<User> getUsersPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(users, pageSize, User::getId);
+    }
+
     public User getUserById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
     public User createUser(User user) {
-        if (existsByEmail(user.getEmail())) {
-            throw new UserAlreadyExistsException("email", user.getEmail());
-        }
-        
-        if (existsByPhoneNumber(user.getPhoneNumber())) {
-            throw new UserAlreadyExistsException("phone number", user.getPhoneNumber());
-        }
-        
-        return userRepository.save(user);
+        validateUniqueFields(null, user.getEmail(), user.getPhoneNumber());
+        return saveUser(user);
     }
 
     public User updateUser(Long id, User user) {
         User existingUser = getUserById(id);
         
-        if (!existingUser.getEmail().equals(user.getEmail()) && existsByEmail(user.getEmail())) {
-            throw new UserAlreadyExistsException("email", user.getEmail());
-        }
-        
-        if (!existingUser.getPhoneNumber().equals(user.getPhoneNumber()) && existsByPhoneNumber(user.getPhoneNumber())) {
-            throw new UserAlreadyExistsException("phone number", user.getPhoneNumber());
-        }
+        validateUniqueFields(id,
+                changedValue(existingUser.getEmail(), user.getEmail()),
+                changedValue(existingUser.getPhoneNumber(), user.getPhoneNumber()));
         
         User updatedUser = User.builder()
                 .id(id)
@@ -56,19 +62,72 @@ public class UserService {
                 .phoneNumber(user.getPhoneNumber())
                 .build();
         
-        return userRepository.save(updatedUser);
+        return saveUser(updatedUser);
     }
 
     public void deleteUser(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        uniqueFieldFilters.markStale(UniqueField.USER_EMAIL);
+        uniqueFieldFilters.markStale(UniqueField.USER_PHONE_NUMBER);
     }
 
     public boolean existsByEmail(String email) {
+        if (uniqueFieldFilters.isDefinitelyAbsent(UniqueField.USER_EMAIL, email)) {
+            return false;
+        }
         return userRepository.existsByEmail(email);
     }
 
     public boolean existsByPhoneNumber(String phoneNumber) {
+        if (uniqueFieldFilters.isDefinitelyAbsent(UniqueField.USER_PHONE_NUMBER, phoneNumber)) {
+            return false;
+        }
         return userRepository.existsByPhoneNumber(phoneNumber);
     }
+
+    private void validateUniqueFields(Long excludedId, String email, String phoneNumber) {
+        if (email == null && phoneNumber == null) {
+            return;
+        }
+        
+        if (isDefinitelyAbsent(UniqueField.USER_EMAIL, email) && isDefinitelyAbsent(UniqueField.USER_PHONE_NUMBER, phoneNumber)) {
+            return;
+        }
+        
+        List<UniqueFieldsView> conflicts = userRepository.findUniqueFieldConflicts(excludedId, email, phoneNumber);
+        
+        if (email != null && conflicts.stream().anyMatch(conflict -> email.equals(conflict.getEmail()))) {
+            throw new UserAlreadyExistsException("email", email);
+        }
+        
+        if (phoneNumber != null && conflicts.stream().anyMatch(conflict -> phoneNumber.equals(conflict.getPhoneNumber()))) {
+            throw new UserAlreadyExistsException("phone number", phoneNumber);
+        }
+    }
+
+    private User saveUser(User user) {
+        try {
+            User savedUser = userRepository.save(user);
+            uniqueFieldFilters.record(UniqueField.USER_EMAIL, user.getEmail());
+            uniqueFieldFilters.record(UniqueField.USER_PHONE_NUMBER, user.getPhoneNumber());
+            return savedUser;
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolationOf(ex, User.EMAIL_CONSTRAINT)) {
+                throw new UserAlreadyExistsException("email", user.getEmail());
+            }
+            if (ConstraintViolations.isViolationOf(ex, User.PHONE_NUMBER_CONSTRAINT)) {
+                throw new UserAlreadyExistsException("phone number", user.getPhoneNumber());
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isDefinitelyAbsent(UniqueField field, String value) {
+        return value == null || uniqueFieldFilters.isDefinitelyAbsent(field, value);
+    }
+
+    private static String changedValue(String currentValue, String newValue) {
+        return currentValue.equals(newValue) ? null : newValue;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package br.com.infnet.edur.usermanagement.utils.etag;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EntityTagConfig {
+    
+    @Bean
+    public FilterRegistrationBean<PageEntityTagFilter> pageEntityTagFilter() {
+        FilterRegistrationBean<PageEntityTagFilter> registration = new FilterRegistrationBean<>(new PageEntityTagFilter());
+        registration.addUrlPatterns("/api/orders", "/api/orders/customer/*", "/api/order-items", "/api/products",
+                "/api/customers", "/api/suppliers", "/api/users");
+        return registration;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package br.com.infnet.edur.usermanagement.utils.etag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class EntityTags {
+    
+    private static final String ANY = "*";
+    private static final String QUOTE = "\"";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String FIELD_SEPARATOR = "\u0000";
+    private static final String VERSION_SEPARATOR = ".";
+    private static final int CONTENT_TAG_BYTES = 16;
+    
+    private EntityTags() {
+    }
+    
+    public static String fromContent(Object... fields) {
+        return QUOTE + digest(fields) + QUOTE;
+    }
+    
+    public static String fromVersionAndContent(Long version, Object... fields) {
+        return QUOTE + version + VERSION_SEPARATOR + digest(fields) + QUOTE;
+    }
+    
+    public static String fromBody(byte[] body) {
+        return QUOTE + digest(body) + QUOTE;
+    }
+    
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(tag) || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public static Set<Long> parseVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (ANY.equals(tag)) {
+                return null;
+            }
+            parseVersion(tag).ifPresent(versions::add);
+        }
+        return versions;
+    }
+    
+    private static Optional<Long> parseVersion(String tag) {
+        if (tag.length() < 2 || !tag.startsWith(QUOTE) || !tag.endsWith(QUOTE)) {
+            return Optional.empty();
+        }
+        
+        String value = tag.substring(1, tag.length() - 1);
+        int separator = value.indexOf(VERSION_SEPARATOR);
+        try {
+            return Optional.of(Long.parseLong(separator < 0 ? value : value.substring(0, separator)));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private static String digest(Object... fields) {
+        String content = Arrays.stream(fields).map(String::valueOf).collect(Collectors.joining(FIELD_SEPARATOR));
+        return digest(content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String digest(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, CONTENT_TAG_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
\ No newline at end of file
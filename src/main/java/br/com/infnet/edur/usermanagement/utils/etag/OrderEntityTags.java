@@ -0,0 +1,31 @@
+package br.com.infnet.edur.usermanagement.utils.etag;
+
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+public final class OrderEntityTags {
+    
+    private OrderEntityTags() {
+    }
+    
+    public static String of(Order order) {
+        Customer customer = order.getCustomer();
+        List<Object> fields = new ArrayList<>();
+        Collections.addAll(fields, customer.getId(), customer.getName(), customer.getEmail(), customer.getPhoneNumber());
+        order.getOrderItems().stream()
+                .sorted(Comparator.comparing(OrderItem::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(item -> {
+                    Product product = item.getProduct();
+                    Collections.addAll(fields, item.getId(), item.getVersion(), item.getQuantity(), item.getUnitPrice(),
+                            product.getId(), product.getName(), product.getUnitPrice());
+                });
+        return EntityTags.fromVersionAndContent(order.getVersion(), fields.toArray());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package br.com.infnet.edur.usermanagement.utils.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+public class PageEntityTagFilter extends ShallowEtagHeaderFilter {
+    
+    public PageEntityTagFilter() {
+        setWriteWeakETag(true);
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package br.com.infnet.edur.usermanagement.utils.exceptions;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+public final class ConstraintViolations {
+    
+    private ConstraintViolations() {
+    }
+    
+    public static boolean isViolationOf(DataIntegrityViolationException ex, String constraintName) {
+        String violated = ex.getCause() instanceof ConstraintViolationException cause && cause.getConstraintName() != null
+                ? cause.getConstraintName()
+                : ex.getMessage();
+        return violated != null && violated.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package br.com.infnet.edur.usermanagement.utils.exceptions;
 
 import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
 import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -27,6 +28,84 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
     
+    @ExceptionHandler(ProductNotFoundException.class)
+    public ResponseEntity<APIResponse<Object>> handleProductNotFoundException(ProductNotFoundException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.NOT_FOUND.value());
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+    
+    @ExceptionHandler(ProductAlreadyExistsException.class)
+    public ResponseEntity<APIResponse<Object>> handleProductAlreadyExistsException(ProductAlreadyExistsException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(CustomerNotFoundException.class)
+    public ResponseEntity<APIResponse<Object>> handleCustomerNotFoundException(CustomerNotFoundException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.NOT_FOUND.value());
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+    
+    @ExceptionHandler(CustomerAlreadyExistsException.class)
+    public ResponseEntity<APIResponse<Object>> handleCustomerAlreadyExistsException(CustomerAlreadyExistsException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(SupplierNotFoundException.class)
+    public ResponseEntity<APIResponse<Object>> handleSupplierNotFoundException(SupplierNotFoundException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.NOT_FOUND.value());
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+    
+    @ExceptionHandler(SupplierAlreadyExistsException.class)
+    public ResponseEntity<APIResponse<Object>> handleSupplierAlreadyExistsException(SupplierAlreadyExistsException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(OrderNotFoundException.class)
+    public ResponseEntity<APIResponse<Object>> handleOrderNotFoundException(OrderNotFoundException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.NOT_FOUND.value());
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+    
+    @ExceptionHandler(OrderArchivedException.class)
+    public ResponseEntity<APIResponse<Object>> handleOrderArchivedException(OrderArchivedException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<APIResponse<Object>> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<APIResponse<Object>> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY.value());
+        return new ResponseEntity<>(response, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+    
+    @ExceptionHandler(OrderValidationException.class)
+    public ResponseEntity<APIResponse<Object>> handleOrderValidationException(OrderValidationException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.BAD_REQUEST.value());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+    
+    @ExceptionHandler(OrderVersionMismatchException.class)
+    public ResponseEntity<APIResponse<Object>> handleOrderVersionMismatchException(OrderVersionMismatchException ex) {
+        APIResponse<Object> response = APIResponse.error(ex.getMessage(), HttpStatus.PRECONDITION_FAILED.value());
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+    
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<APIResponse<Object>> handleConcurrencyFailureException(ConcurrencyFailureException ex) {
+        APIResponse<Object> response = APIResponse.error(ErrorMessages.CONCURRENT_MODIFICATION.getMessage(), HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<APIResponse<Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
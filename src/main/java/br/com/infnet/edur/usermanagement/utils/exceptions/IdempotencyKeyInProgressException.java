@@ -0,0 +1,10 @@
+package br.com.infnet.edur.usermanagement.utils.exceptions;
+
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    
+    public IdempotencyKeyInProgressException(String key) {
+        super(ErrorMessages.IDEMPOTENCY_KEY_IN_PROGRESS.getMessage() + ": " + key);
+    }
+}
\ No newline at end of file
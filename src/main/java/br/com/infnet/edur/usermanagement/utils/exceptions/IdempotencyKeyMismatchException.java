@@ -0,0 +1,10 @@
+package br.com.infnet.edur.usermanagement.utils.exceptions;
+
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    
+    public IdempotencyKeyMismatchException(String key) {
+        super(ErrorMessages.IDEMPOTENCY_KEY_REUSED.getMessage() + ": " + key);
+    }
+}
\ No newline at end of file
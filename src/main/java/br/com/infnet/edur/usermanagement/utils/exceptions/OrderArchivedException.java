@@ -0,0 +1,10 @@
+package br.com.infnet.edur.usermanagement.utils.exceptions;
+
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+
+public class OrderArchivedException extends RuntimeException {
+    
+    public OrderArchivedException(Long id) {
+        super(ErrorMessages.ORDER_ARCHIVED.getMessage() + " with ID: " + id);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package br.com.infnet.edur.usermanagement.utils.exceptions;
+
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+
+import java.util.Set;
+
+public class OrderVersionMismatchException extends RuntimeException {
+    
+    public OrderVersionMismatchException(Long id, Set<Long> expectedVersions, Long currentVersion) {
+        super(ErrorMessages.ORDER_VERSION_MISMATCH.getMessage() + " with ID: " + id
+                + " (expected versions " + expectedVersions + ", current version " + currentVersion + ")");
+    }
+}
\ No newline at end of file
@@ -10,7 +10,20 @@ public enum ErrorMessages {
     CUSTOMER_ALREADY_EXISTS("Customer already exists"),
     ORDER_NOT_FOUND("Order not found"),
     ORDER_VALIDATION_ERROR("Order validation error"),
+    ORDER_ARCHIVED("Archived orders are read-only"),
+    ORDER_VERSION_MISMATCH("Order was modified since it was read"),
+    CONCURRENT_MODIFICATION("Resource was modified concurrently, please retry"),
     VALIDATION_ERROR("Validation error"),
+    INVALID_CURSOR("Invalid pagination cursor"),
+    INVALID_PAGE_SIZE("Page size must be at least 1"),
+    MALFORMED_IMPORT_RECORD("Malformed record"),
+    DUPLICATED_IN_IMPORT("Duplicated in this import"),
+    INVALID_REPORT_RANGE("Report start date must not be after end date"),
+    INVALID_REPORT_LIMIT("Report limit must be at least 1"),
+    INVALID_PURGE_RANGE("Purge start date must not be after end date"),
+    INVALID_IDEMPOTENCY_KEY("Idempotency key must have between 1 and 255 characters"),
+    IDEMPOTENCY_KEY_REUSED("Idempotency key was already used with a different request"),
+    IDEMPOTENCY_KEY_IN_PROGRESS("A request with this idempotency key is still being processed"),
     INTERNAL_SERVER_ERROR("Internal server error");
     
     private final String message;
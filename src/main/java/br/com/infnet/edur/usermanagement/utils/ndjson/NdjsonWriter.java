@@ -0,0 +1,22 @@
+package br.com.infnet.edur.usermanagement.utils.ndjson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+public final class NdjsonWriter {
+    
+    private NdjsonWriter() {
+    }
+    
+    public static void writeLine(ObjectMapper objectMapper, OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
\ No newline at end of file
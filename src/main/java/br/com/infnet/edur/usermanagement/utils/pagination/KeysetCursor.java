@@ -0,0 +1,51 @@
+package br.com.infnet.edur.usermanagement.utils.pagination;
+
+import br.com.infnet.edur.usermanagement.utils.messages.ErrorMessages;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class KeysetCursor {
+    
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private static final String PREFIX = "id:";
+    private static final long FIRST_PAGE_ID = 0L;
+    
+    private KeysetCursor() {
+    }
+    
+    public static String encode(Long lastId) {
+        String raw = PREFIX + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE_ID;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR.getMessage());
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR.getMessage(), ex);
+        }
+    }
+    
+    public static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        
+        if (size < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_SIZE.getMessage() + ": " + size);
+        }
+        
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
\ No newline at end of file
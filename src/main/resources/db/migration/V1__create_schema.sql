@@ -0,0 +1,87 @@
+create sequence order_items_seq start with 1 increment by 50;
+
+create table users (
+    id bigint generated by default as identity,
+    first_user_name varchar(255) not null,
+    last_user_name varchar(255) not null,
+    email varchar(255) not null,
+    phone_number varchar(255) not null,
+    primary key (id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_phone_number unique (phone_number)
+);
+
+create table customers (
+    id bigint generated by default as identity,
+    customer_name varchar(255) not null,
+    email varchar(255) not null,
+    phone_number varchar(255) not null,
+    primary key (id),
+    constraint uk_customers_email unique (email),
+    constraint uk_customers_phone_number unique (phone_number)
+);
+
+create table suppliers (
+    id bigint generated by default as identity,
+    supplier_number varchar(255) not null,
+    email varchar(255) not null,
+    phone_number varchar(255) not null,
+    primary key (id),
+    constraint uk_suppliers_email unique (email),
+    constraint uk_suppliers_phone_number unique (phone_number)
+);
+
+create table products (
+    id bigint generated by default as identity,
+    product_name varchar(255) not null,
+    unit_price numeric(19,2) not null,
+    primary key (id),
+    constraint uk_products_product_name unique (product_name)
+);
+
+create table orders (
+    id bigint generated by default as identity,
+    customer_id bigint not null,
+    order_date timestamp(6) not null,
+    total_amount numeric(19,2) not null,
+    primary key (id)
+);
+
+create table order_items (
+    id bigint not null,
+    order_id bigint not null,
+    product_id bigint not null,
+    quantity integer not null check (quantity >= 1),
+    unit_price numeric(19,2) not null,
+    primary key (id)
+);
+
+create table product_daily_sales (
+    sales_date date not null,
+    product_id bigint not null,
+    quantity bigint not null,
+    revenue numeric(19,2) not null,
+    primary key (sales_date, product_id)
+);
+
+create table customer_daily_sales (
+    sales_date date not null,
+    customer_id bigint not null,
+    order_count bigint not null,
+    revenue numeric(19,2) not null,
+    primary key (sales_date, customer_id)
+);
+
+create index idx_orders_customer_id_order_date on orders (customer_id, order_date);
+create index idx_orders_order_date on orders (order_date);
+create index idx_order_items_order_id on order_items (order_id);
+create index idx_order_items_product_id on order_items (product_id);
+
+alter table orders
+    add constraint fk_orders_customer_id foreign key (customer_id) references customers;
+
+alter table order_items
+    add constraint fk_order_items_order_id foreign key (order_id) references orders;
+
+alter table order_items
+    add constraint fk_order_items_product_id foreign key (product_id) references products;
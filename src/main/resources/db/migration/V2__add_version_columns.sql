@@ -0,0 +1,3 @@
+alter table orders add column version bigint default 0 not null;
+
+alter table order_items add column version bigint default 0 not null;
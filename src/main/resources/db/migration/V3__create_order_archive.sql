@@ -0,0 +1,39 @@
+create table archived_orders (
+    id bigint not null,
+    customer_id bigint not null,
+    order_date timestamp(6) not null,
+    total_amount numeric(19,2) not null,
+    version bigint not null,
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table archived_order_items (
+    id bigint not null,
+    order_id bigint not null,
+    product_id bigint not null,
+    quantity integer not null,
+    unit_price numeric(19,2) not null,
+    primary key (id)
+);
+
+create table archive_checkpoints (
+    job_name varchar(100) not null,
+    cutoff timestamp(6) not null,
+    last_order_id bigint not null,
+    orders_archived bigint not null,
+    completed boolean not null,
+    updated_at timestamp(6) not null,
+    primary key (job_name)
+);
+
+create index idx_archived_order_items_order_id on archived_order_items (order_id);
+
+alter table archived_orders
+    add constraint fk_archived_orders_customer_id foreign key (customer_id) references customers;
+
+alter table archived_order_items
+    add constraint fk_archived_order_items_order_id foreign key (order_id) references archived_orders;
+
+alter table archived_order_items
+    add constraint fk_archived_order_items_product_id foreign key (product_id) references products;
@@ -0,0 +1,10 @@
+create table idempotency_keys (
+    idempotency_key varchar(320) not null,
+    request_hash varchar(64) not null,
+    response_body blob,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    primary key (idempotency_key)
+);
+
+create index idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
@@ -0,0 +1,3 @@
+create index idx_orders_customer_id_id on orders (customer_id, id);
+
+drop index idx_orders_customer_id_order_date;
@@ -0,0 +1,64 @@
+package br.com.infnet.edur.usermanagement.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class BenchmarkComparison {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json>");
+            System.exit(1);
+        }
+
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> candidate = read(Path.of(args[1]));
+
+        System.out.printf("%-80s %-8s %16s %16s %9s%n", "Benchmark", "Unit", "Baseline", "Candidate", "Change");
+        candidate.forEach((name, result) -> {
+            JsonNode metric = result.get("primaryMetric");
+            JsonNode baselineResult = baseline.get(name);
+            if (baselineResult == null) {
+                System.out.printf("%-80s %-8s %16s %16s %9s%n", name, metric.get("scoreUnit").asText(), "-",
+                        format(metric), "new");
+                return;
+            }
+
+            JsonNode baselineMetric = baselineResult.get("primaryMetric");
+            double before = baselineMetric.get("score").asDouble();
+            double after = metric.get("score").asDouble();
+            double change = (after - before) / before * 100;
+            boolean significant = Math.abs(after - before) > error(baselineMetric) + error(metric);
+            System.out.printf("%-80s %-8s %16s %16s %+8.1f%%%s%n", name, metric.get("scoreUnit").asText(),
+                    format(baselineMetric), format(metric), change, significant ? "" : " (within error)");
+        });
+    }
+
+    private static Map<String, JsonNode> read(Path path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(path.toFile())) {
+            StringBuilder name = new StringBuilder(result.get("benchmark").asText()
+                    .replace("br.com.infnet.edur.usermanagement.benchmark.", ""));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                params.fields().forEachRemaining(param -> name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            }
+            results.put(name.toString(), result);
+        }
+        return results;
+    }
+
+    private static String format(JsonNode metric) {
+        return String.format("%.3f +- %.3f", metric.get("score").asDouble(), error(metric));
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.get("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package br.com.infnet.edur.usermanagement.benchmark;
+
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Customer customer() {
+        return Customer.builder()
+                .id(1L)
+                .name("Benchmark Customer")
+                .email("benchmark@example.com")
+                .phoneNumber("+5511999999999")
+                .build();
+    }
+
+    static Product product(long id) {
+        return Product.builder()
+                .id(id)
+                .name("Benchmark Product " + id)
+                .unitPrice(new BigDecimal("19.90").add(BigDecimal.valueOf(id)))
+                .build();
+    }
+
+    static Order order(long id, Customer customer, int itemCount) {
+        Order order = Order.builder()
+                .id(id)
+                .customer(customer)
+                .orderDate(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+        for (int i = 0; i < itemCount; i++) {
+            Product product = product(i + 1);
+            order.addOrderItem(OrderItem.builder()
+                    .id(id * itemCount + i)
+                    .product(product)
+                    .quantity(i % 5 + 1)
+                    .unitPrice(product.getUnitPrice())
+                    .build());
+        }
+        return order;
+    }
+
+    static List<Order> orders(int orderCount, int itemsPerOrder) {
+        Customer customer = customer();
+        List<Order> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(order(i + 1, customer, itemsPerOrder));
+        }
+        return orders;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package br.com.infnet.edur.usermanagement.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Path resultsDir = Path.of(System.getProperty("jmh.results.dir", "jmh-results"));
+        Path result = resultsDir.resolve(System.getProperty("jmh.label", "latest") + ".json");
+        Files.createDirectories(resultsDir);
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+
+        new Runner(options).run();
+        System.out.println("Results written to " + result.toAbsolutePath());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package br.com.infnet.edur.usermanagement.benchmark;
+
+import br.com.infnet.edur.usermanagement.controller.CustomerController;
+import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.request.CustomerInputDTO;
+import br.com.infnet.edur.usermanagement.utils.exceptions.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MethodArgumentNotValidException exception;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new CustomerInputDTO(), "customerInputDTO");
+        bindingResult.addError(new FieldError("customerInputDTO", "name", "Name is required"));
+        bindingResult.addError(new FieldError("customerInputDTO", "email", "Email should be valid"));
+        bindingResult.addError(new FieldError("customerInputDTO", "phoneNumber", "Phone number should be valid"));
+
+        MethodParameter parameter = new MethodParameter(
+                CustomerController.class.getMethod("createCustomer", CustomerInputDTO.class), 0);
+        exception = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<Object>> handleValidationExceptions() {
+        return handler.handleValidationExceptions(exception);
+    }
+}
\ No newline at end of file
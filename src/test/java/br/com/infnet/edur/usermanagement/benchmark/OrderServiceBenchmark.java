@@ -0,0 +1,80 @@
+package br.com.infnet.edur.usermanagement.benchmark;
+
+import br.com.infnet.edur.usermanagement.UserManagementApplication;
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.service.CustomerService;
+import br.com.infnet.edur.usermanagement.service.OrderService;
+import br.com.infnet.edur.usermanagement.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    @Param({"1", "10"})
+    private int itemCount;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderInputDTO orderInputDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(UserManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        orderService = context.getBean(OrderService.class);
+
+        Customer customer = context.getBean(CustomerService.class)
+                .createCustomer(new Customer("Benchmark Customer", "benchmark@example.com", "+5511999999999"));
+
+        ProductService productService = context.getBean(ProductService.class);
+        List<OrderItemInputDTO> orderItems = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Product product = productService.createProduct(Product.builder()
+                    .name("Benchmark Product " + i)
+                    .unitPrice(new BigDecimal("19.90"))
+                    .build());
+            orderItems.add(new OrderItemInputDTO(product.getId(), i % 5 + 1));
+        }
+        orderInputDTO = new OrderInputDTO(customer.getId(), orderItems);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder(orderInputDTO);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package br.com.infnet.edur.usermanagement.benchmark;
+
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderTotalsBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+    private OrderItem orderItem;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(1L, BenchmarkFixtures.customer(), itemCount);
+        orderItem = order.getOrderItems().get(0);
+    }
+
+    @Benchmark
+    public BigDecimal orderTotalAmount() {
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal recalculatedOrderTotalAmount() {
+        order.recalculateTotalAmount();
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal orderItemTotalPrice() {
+        return orderItem.getTotalPrice();
+    }
+}
\ No newline at end of file
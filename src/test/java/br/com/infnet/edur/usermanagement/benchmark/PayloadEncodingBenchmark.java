@@ -0,0 +1,83 @@
+package br.com.infnet.edur.usermanagement.benchmark;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.model.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PayloadEncodingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int orderCount;
+
+    @Param({"5"})
+    private int itemsPerOrder;
+
+    @Param({"json", "json_gzip", "cbor", "cbor_gzip", "smile", "smile_gzip"})
+    private String encoding;
+
+    private ObjectMapper objectMapper;
+    private boolean gzip;
+    private APIResponse<List<Order>> response;
+    private long wireBytes;
+
+    @Setup
+    public void setUp() {
+        String format = encoding.replace("_gzip", "");
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        gzip = encoding.endsWith("_gzip");
+        response = APIResponse.success(BenchmarkFixtures.orders(orderCount, itemsPerOrder));
+    }
+
+    @Benchmark
+    public byte[] encodeOrdersResponse() throws IOException {
+        byte[] body = encode();
+        wireBytes = body.length;
+        return body;
+    }
+
+    @TearDown(Level.Trial)
+    public void reportWireBytes() {
+        System.out.printf("%nwire bytes [%s, %d orders]: %d%n", encoding, orderCount, wireBytes);
+    }
+
+    private byte[] encode() throws IOException {
+        if (!gzip) {
+            return objectMapper.writeValueAsBytes(response);
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(buffer, 8192)) {
+            objectMapper.writeValue(output, response);
+        }
+        return buffer.toByteArray();
+    }
+}
\ No newline at end of file
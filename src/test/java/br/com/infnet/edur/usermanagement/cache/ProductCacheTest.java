@@ -0,0 +1,88 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCache Tests")
+class ProductCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductCache productCache;
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        productCache = new ProductCache(productRepository, 100, Duration.ofMinutes(10));
+        product1 = Product.builder().id(1L).name("Product 1").unitPrice(new BigDecimal("10.00")).build();
+        product2 = Product.builder().id(2L).name("Product 2").unitPrice(new BigDecimal("20.00")).build();
+    }
+
+    @Test
+    @DisplayName("Should load product once and serve subsequent lookups from cache")
+    void shouldLoadProductOnceAndServeSubsequentLookupsFromCache() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+
+        assertEquals(Optional.of(product1), productCache.findById(1L));
+        assertEquals(Optional.of(product1), productCache.findById(1L));
+
+        verify(productRepository, times(1)).findById(1L);
+        assertEquals(1, productCache.stats().getHitCount());
+        assertEquals(1, productCache.stats().getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing products")
+    void shouldNotCacheMissingProducts() {
+        when(productRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertTrue(productCache.findById(999L).isEmpty());
+        assertTrue(productCache.findById(999L).isEmpty());
+
+        verify(productRepository, times(2)).findById(999L);
+        assertEquals(0, productCache.stats().getSize());
+    }
+
+    @Test
+    @DisplayName("Should only load missing products in bulk lookups")
+    void shouldOnlyLoadMissingProductsInBulkLookups() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(productRepository.findAllById(List.of(2L))).thenReturn(List.of(product2));
+
+        productCache.findById(1L);
+        Map<Long, Product> result = productCache.findAllById(List.of(1L, 2L));
+
+        assertEquals(Map.of(1L, product1, 2L, product2), result);
+        verify(productRepository).findAllById(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Should reload product after eviction")
+    void shouldReloadProductAfterEviction() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+
+        productCache.findById(1L);
+        productCache.evict(1L);
+        productCache.findById(1L);
+
+        verify(productRepository, times(2)).findById(1L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ResponseBodyCache Tests")
+class ResponseBodyCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ResponseBodyCache responseBodyCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        responseBodyCache = new ResponseBodyCache(objectMapper, 100, Duration.ofMinutes(10), 64);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should encode a page once and reuse the same bytes")
+    void shouldEncodeAPageOnceAndReuseTheSameBytes() throws Exception {
+        EncodedResponse first = responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=null&size=null", this::page);
+        EncodedResponse second = responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=null&size=null", this::page);
+
+        assertEquals(1, loads.get());
+        assertSame(first.getBody(), second.getBody());
+        assertArrayEquals(objectMapper.writeValueAsBytes(page()), first.getBody());
+    }
+
+    @Test
+    @DisplayName("Should re-encode a region after invalidation and keep other regions")
+    void shouldReEncodeARegionAfterInvalidationAndKeepOtherRegions() {
+        responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=null&size=null", this::page);
+        responseBodyCache.get(ResponseRegion.SUPPLIERS, "cursor=null&size=null", this::page);
+
+        responseBodyCache.invalidate(ResponseRegion.PRODUCTS);
+        responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=null&size=null", this::page);
+        responseBodyCache.get(ResponseRegion.SUPPLIERS, "cursor=null&size=null", this::page);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not serve a page that was loaded before an invalidation")
+    void shouldNotServeAPageThatWasLoadedBeforeAnInvalidation() {
+        responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=null&size=null", () -> {
+            CompletableFuture.runAsync(() -> responseBodyCache.invalidate(ResponseRegion.PRODUCTS)).join();
+            return page();
+        });
+        responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=null&size=null", this::page);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should precompress large pages and serve gzip only to clients that accept it")
+    void shouldPrecompressLargePagesAndServeGzipOnlyToClientsThatAcceptIt() throws Exception {
+        EncodedResponse page = responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=null&size=null", this::page);
+
+        ResponseEntity<byte[]> gzip = page.toResponseEntity(null, "br, gzip;q=0.8");
+        ResponseEntity<byte[]> identity = page.toResponseEntity(null, "gzip;q=0");
+
+        assertNotNull(page.getGzipBody());
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(page.getBody(), gunzip(gzip.getBody()));
+        assertNull(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertSame(page.getBody(), identity.getBody());
+        assertNotEquals(gzip.getHeaders().getETag(), identity.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should skip compression for small pages")
+    void shouldSkipCompressionForSmallPages() {
+        EncodedResponse page = responseBodyCache.get(ResponseRegion.SUPPLIERS, "cursor=null&size=1",
+                () -> APIResponse.success(List.of()));
+
+        assertNull(page.getGzipBody());
+        assertNull(page.toResponseEntity(null, "gzip").getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when If-None-Match carries the page ETag")
+    void shouldAnswer304WhenIfNoneMatchCarriesThePageETag() {
+        EncodedResponse page = responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=null&size=null", this::page);
+
+        ResponseEntity<byte[]> response = page.toResponseEntity(page.getETag(), null);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should not cache a failed load")
+    void shouldNotCacheAFailedLoad() {
+        assertThrows(IllegalArgumentException.class, () -> responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=bad&size=null", () -> {
+            throw new IllegalArgumentException("bad cursor");
+        }));
+
+        responseBodyCache.get(ResponseRegion.PRODUCTS, "cursor=bad&size=null", this::page);
+
+        assertEquals(1, loads.get());
+    }
+
+    private APIResponse<List<String>> page() {
+        loads.incrementAndGet();
+        return APIResponse.success(List.of("Product 1", "Product 2", "Product 3", "Product 4", "Product 5", "Product 6"));
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return input.readAllBytes();
+        }
+    }
+}
\ No newline at end of file
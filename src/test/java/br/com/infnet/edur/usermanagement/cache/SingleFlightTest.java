@@ -0,0 +1,134 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import br.com.infnet.edur.usermanagement.utils.exceptions.ProductNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int THREADS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Should share one load between concurrent lookups of the same key")
+    void shouldShareOneLoadBetweenConcurrentLookupsOfTheSameKey() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("product", 1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "product-1";
+        }));
+        awaitCoalesced("product", THREADS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("product-1", result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, count("product", "loaded"));
+        assertEquals(THREADS - 1, count("product", "coalesced"));
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader failure to coalesced lookups")
+    void shouldPropagateTheLeaderFailureToCoalescedLookups() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("product", 7L, () -> {
+            await(release);
+            throw new ProductNotFoundException(7L);
+        }));
+        awaitCoalesced("product", THREADS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ProductNotFoundException.class, ex.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous flight has landed")
+    void shouldLoadAgainOnceThePreviousFlightHasLanded() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("customer", 1L, loads::incrementAndGet);
+        singleFlight.execute("customer", 1L, loads::incrementAndGet);
+        singleFlight.execute("order", 1L, loads::incrementAndGet);
+
+        assertEquals(3, loads.get());
+        assertEquals(0, count("customer", "coalesced"));
+    }
+
+    @Test
+    @DisplayName("Should bypass coalescing inside a transaction")
+    void shouldBypassCoalescingInsideATransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertEquals("loaded", singleFlight.execute("order", 1L, () -> "loaded"));
+        assertNull(meterRegistry.find("app.single.flight.requests").counter());
+    }
+
+    private List<Future<String>> submitAll(Callable<String> task) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(task));
+        }
+        return results;
+    }
+
+    private void awaitCoalesced(String lookup, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count(lookup, "coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String lookup, String outcome) {
+        Counter counter = meterRegistry.find("app.single.flight.requests").tags("lookup", lookup, "outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
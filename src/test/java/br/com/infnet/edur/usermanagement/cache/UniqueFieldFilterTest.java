@@ -0,0 +1,57 @@
+package br.com.infnet.edur.usermanagement.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UniqueFieldFilter Tests")
+class UniqueFieldFilterTest {
+
+    private UniqueFieldFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new UniqueFieldFilter(1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should report unseen value as definitely absent")
+    void shouldReportUnseenValueAsDefinitelyAbsent() {
+        assertTrue(filter.isDefinitelyAbsent("john@example.com"));
+        assertEquals(1, filter.getChecks());
+        assertEquals(1, filter.getSkips());
+    }
+
+    @Test
+    @DisplayName("Should not report recorded value as absent")
+    void shouldNotReportRecordedValueAsAbsent() {
+        filter.put("john@example.com");
+
+        assertFalse(filter.isDefinitelyAbsent("john@example.com"));
+        assertEquals(1, filter.getChecks());
+        assertEquals(0, filter.getSkips());
+    }
+
+    @Test
+    @DisplayName("Should compute skip ratio from checks and skips")
+    void shouldComputeSkipRatioFromChecksAndSkips() {
+        assertEquals(0.0, filter.getSkipRatio());
+
+        filter.put("john@example.com");
+        filter.isDefinitelyAbsent("john@example.com");
+        filter.isDefinitelyAbsent("jane@example.com");
+
+        assertEquals(0.5, filter.getSkipRatio());
+    }
+
+    @Test
+    @DisplayName("Should count stale entries")
+    void shouldCountStaleEntries() {
+        filter.markStale();
+        filter.markStale();
+
+        assertEquals(2, filter.getStaleEntries());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@DisplayName("Customer Bulk Import Benchmark")
+class CustomerBulkImportBenchmarkTest {
+
+    private static final int RECORD_COUNT = 20_000;
+    private static final int WARMUP_COUNT = 2_000;
+    private static final double MINIMUM_SPEEDUP = 10.0;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Bulk import should be at least 10x faster than single-record creation")
+    void bulkImportShouldBeAtLeastTenTimesFasterThanSingleRecordCreation() throws Exception {
+        createOneByOne(1, WARMUP_COUNT);
+        importInBulk(2, WARMUP_COUNT);
+
+        long singleNanos = createOneByOne(3, RECORD_COUNT);
+        long bulkNanos = importInBulk(4, RECORD_COUNT);
+
+        double singleThroughput = RECORD_COUNT / (singleNanos / 1e9);
+        double bulkThroughput = RECORD_COUNT / (bulkNanos / 1e9);
+        System.out.printf("single: %.0f customers/s, bulk: %.0f customers/s, speedup: %.1fx%n",
+                singleThroughput, bulkThroughput, bulkThroughput / singleThroughput);
+
+        assertTrue(bulkThroughput / singleThroughput >= MINIMUM_SPEEDUP);
+    }
+
+    private long createOneByOne(int series, int count) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            mockMvc.perform(post("/api/customers")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(customerJson(series, i)))
+                    .andExpect(status().isCreated());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long importInBulk(int series, int count) throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            body.append(customerJson(series, i)).append('\n');
+        }
+
+        long start = System.nanoTime();
+        MvcResult result = mockMvc.perform(post("/api/customers/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body.toString()))
+                .andReturn();
+        String report = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(count, report.split("\"status\":\"CREATED\"", -1).length - 1);
+        return elapsed;
+    }
+
+    private static String customerJson(int series, int index) {
+        return "{\"name\":\"Customer " + index + "\",\"email\":\"benchmark." + series + "." + index
+                + "@example.com\",\"phoneNumber\":\"+" + series + String.format("%09d", index) + "\"}";
+    }
+}
\ No newline at end of file
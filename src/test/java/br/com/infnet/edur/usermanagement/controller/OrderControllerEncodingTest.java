@@ -0,0 +1,157 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductRepository;
+import br.com.infnet.edur.usermanagement.service.OrderPurgeService;
+import br.com.infnet.edur.usermanagement.service.OrderService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.jpa.show-sql=false")
+@DisplayName("OrderController Encoding Tests")
+class OrderControllerEncodingTest {
+
+    private static final int ORDERS = 30;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderPurgeService orderPurgeService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private Customer customer;
+    private Product product;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Encoding Customer")
+                .email("encoding@example.com")
+                .phoneNumber("+5511933332222")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("Encoding Product")
+                .unitPrice(new BigDecimal("2.50"))
+                .build());
+        for (int i = 1; i <= ORDERS; i++) {
+            order = orderService.createOrder(new OrderInputDTO(customer.getId(), List.of(new OrderItemInputDTO(product.getId(), i))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderPurgeService.purgeByCustomer(customer.getId(), progress -> { });
+        productRepository.delete(product);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("Should negotiate CBOR and Smile through Accept and default to JSON")
+    void shouldNegotiateCborAndSmileThroughAcceptAndDefaultToJson() throws Exception {
+        HttpResponse<byte[]> json = get("/api/orders/" + order.getId(), "*/*", null);
+        HttpResponse<byte[]> cbor = get("/api/orders/" + order.getId(), "application/cbor", null);
+        HttpResponse<byte[]> smile = get("/api/orders/" + order.getId(), "application/x-jackson-smile", null);
+
+        assertEquals("application/json", contentType(json));
+        assertEquals("application/cbor", contentType(cbor));
+        assertEquals("application/x-jackson-smile", contentType(smile));
+
+        JsonNode expected = objectMapper.readTree(json.body());
+        assertTrue(expected.equals(OrderControllerEncodingTest::compareValues, new ObjectMapper(new CBORFactory()).readTree(cbor.body())));
+        assertTrue(expected.equals(OrderControllerEncodingTest::compareValues, new ObjectMapper(new SmileFactory()).readTree(smile.body())));
+        assertEquals(order.getId(), expected.path("data").path("id").asLong());
+        assertTrue(cbor.body().length < json.body().length);
+    }
+
+    @Test
+    @DisplayName("Should gzip large listings for clients that accept it")
+    void shouldGzipLargeListingsForClientsThatAcceptIt() throws Exception {
+        String listing = "/api/orders/customer/" + customer.getId() + "?size=" + ORDERS;
+
+        HttpResponse<byte[]> plain = get(listing, "application/json", null);
+        HttpResponse<byte[]> gzip = get(listing, "application/json", "gzip");
+
+        assertTrue(plain.body().length > 2048);
+        assertTrue(plain.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals("gzip", gzip.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(gzip.headers().firstValue("ETag").orElse("").startsWith("W/"));
+        assertArrayEquals(plain.body(), gunzip(gzip.body()));
+        assertTrue(gzip.body().length < plain.body().length / 4);
+    }
+
+    @Test
+    @DisplayName("Should leave small responses uncompressed")
+    void shouldLeaveSmallResponsesUncompressed() throws Exception {
+        HttpResponse<byte[]> response = get("/api/products/" + product.getId(), "application/json", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String contentType(HttpResponse<byte[]> response) {
+        return response.headers().firstValue("Content-Type").orElse("").split(";")[0];
+    }
+
+    private static int compareValues(JsonNode left, JsonNode right) {
+        if (left.isNumber() && right.isNumber()) {
+            return left.decimalValue().compareTo(right.decimalValue());
+        }
+        return left.equals(right) ? 0 : 1;
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return input.readAllBytes();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.metrics.QueryMetricsFilter;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@DisplayName("OrderController Export Tests")
+class OrderControllerExportTest {
+
+    private static final int ORDER_COUNT = 1_100;
+    private static final int ITEMS_PER_ORDER = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Customer customer;
+    private final List<Product> products = new ArrayList<>();
+    private final List<Order> orders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Export Customer")
+                .email("export@example.com")
+                .phoneNumber("+5511955554444")
+                .build());
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(productRepository.save(Product.builder()
+                    .name("Export Product " + i)
+                    .unitPrice(new BigDecimal("5.00"))
+                    .build()));
+        }
+        List<Order> newOrders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder()
+                    .customer(customer)
+                    .orderDate(LocalDateTime.now())
+                    .build();
+            products.forEach(product -> order.addOrderItem(OrderItem.builder()
+                    .product(product)
+                    .quantity(2)
+                    .unitPrice(product.getUnitPrice())
+                    .build()));
+            newOrders.add(order);
+        }
+        orders.addAll(orderRepository.saveAll(newOrders));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll(orders);
+        productRepository.deleteAll(products);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("Should stream every order with customer and items as NDJSON")
+    void shouldStreamEveryOrderWithCustomerAndItemsAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<JsonNode> exported = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode order = objectMapper.readTree(line);
+            if ("export@example.com".equals(order.path("customer").path("email").asText())) {
+                exported.add(order);
+            }
+        }
+
+        assertEquals(ORDER_COUNT, exported.size());
+        exported.forEach(order -> {
+            assertEquals(ITEMS_PER_ORDER, order.get("orderItems").size());
+            assertEquals("Export Product 0", order.get("orderItems").get(0).path("product").path("name").asText());
+            assertEquals(0, new BigDecimal("20.00").compareTo(order.get("totalAmount").decimalValue()));
+        });
+        assertEquals(orders.get(0).getId(), exported.get(0).get("id").asLong());
+        assertEquals(orders.get(ORDER_COUNT - 1).getId(), exported.get(ORDER_COUNT - 1).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("Should stream the export without buffering it for query headers")
+    void shouldStreamTheExportWithoutBufferingItForQueryHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_LENGTH))
+                .andExpect(header().doesNotExist(QueryMetricsFilter.STATEMENTS_HEADER))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertEquals(ORDER_COUNT, body.lines().filter(line -> line.contains("export@example.com")).count());
+    }
+
+    @Test
+    @DisplayName("Should count the statements the export runs on the streaming thread")
+    void shouldCountTheStatementsTheExportRunsOnTheStreamingThread() throws Exception {
+        DistributionSummary before = exportStatements();
+        long countBefore = before == null ? 0 : before.count();
+        double totalBefore = before == null ? 0 : before.totalAmount();
+
+        MvcResult result = mockMvc.perform(get("/api/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        DistributionSummary after = exportStatements();
+        assertNotNull(after);
+        assertEquals(countBefore + 1, after.count());
+        assertTrue(after.totalAmount() - totalBefore >= 2, () -> "Recorded " + (after.totalAmount() - totalBefore) + " statements");
+    }
+
+    private DistributionSummary exportStatements() {
+        return meterRegistry.find(QueryMetricsFilter.STATEMENTS_METRIC_NAME)
+                .tags("method", "GET", "uri", "/api/orders/export")
+                .summary();
+    }
+}
\ No newline at end of file
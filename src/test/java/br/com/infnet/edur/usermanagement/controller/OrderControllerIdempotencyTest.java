@@ -0,0 +1,317 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.APIResponse;
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.IdempotencyKeyRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductRepository;
+import br.com.infnet.edur.usermanagement.service.IdempotencyService;
+import br.com.infnet.edur.usermanagement.service.OrderPurgeService;
+import br.com.infnet.edur.usermanagement.utils.exceptions.IdempotencyKeyInProgressException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "idempotency.wait-timeout=1s"})
+@AutoConfigureMockMvc
+@DisplayName("OrderController Idempotency Tests")
+class OrderControllerIdempotencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private OrderPurgeService orderPurgeService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Idempotent Customer")
+                .email("idempotent@example.com")
+                .phoneNumber("+5511955554444")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("Idempotent Product")
+                .unitPrice(new BigDecimal("3.00"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderPurgeService.purgeByCustomer(customer.getId(), progress -> { });
+        jdbcTemplate.update("delete from idempotency_keys");
+        productRepository.delete(product);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without creating a second order")
+    void shouldReplayTheStoredResponseWithoutCreatingASecondOrder() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        Long firstId = readOrderId(mockMvc.perform(createOrder(key, orderInput(2)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn());
+        Long secondId = readOrderId(mockMvc.perform(createOrder(key, orderInput(2)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.data.totalAmount").value(6.00))
+                .andReturn());
+
+        assertEquals(firstId, secondId);
+        assertEquals(1, orderRepository.findByCustomerId(customer.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should reject a reused key carrying a different request with 422")
+    void shouldRejectAReusedKeyCarryingADifferentRequestWith422() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(createOrder(key, orderInput(2))).andExpect(status().isCreated());
+
+        mockMvc.perform(createOrder(key, orderInput(3)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.success").value(false));
+
+        assertEquals(1, orderRepository.findByCustomerId(customer.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should release the key when order creation fails")
+    void shouldReleaseTheKeyWhenOrderCreationFails() throws Exception {
+        String key = UUID.randomUUID().toString();
+        OrderInputDTO unknownProduct = new OrderInputDTO(customer.getId(), List.of(new OrderItemInputDTO(Long.MAX_VALUE, 1)));
+
+        mockMvc.perform(createOrder(key, unknownProduct)).andExpect(status().isNotFound());
+
+        assertTrue(idempotencyKeyRepository.find("orders:" + key, LocalDateTime.now()).isEmpty());
+        mockMvc.perform(createOrder(key, orderInput(1))).andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should replay a response completed by another node")
+    void shouldReplayAResponseCompletedByAnotherNode() throws Exception {
+        String key = UUID.randomUUID().toString();
+        OrderInputDTO input = orderInput(4);
+        Order stored = Order.builder().id(42L).customer(customer).totalAmount(new BigDecimal("12.00")).version(0L).build();
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.claim("orders:" + key, sha256(objectMapper.writeValueAsBytes(input)), now, now.plusHours(1), Duration.ofSeconds(1));
+        idempotencyKeyRepository.complete("orders:" + key, objectMapper.writeValueAsBytes(APIResponse.success(stored, 201)));
+
+        mockMvc.perform(createOrder(key, input))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.data.id").value(42));
+
+        assertTrue(orderRepository.findByCustomerId(customer.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent duplicates onto a single order")
+    void shouldCoalesceConcurrentDuplicatesOntoASingleOrder() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(orderInput(1));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MvcResult>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                Callable<MvcResult> request = () -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/orders")
+                                    .header("Idempotency-Key", key)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn();
+                };
+                futures.add(executor.submit(request));
+            }
+            start.countDown();
+
+            Set<Long> orderIds = new HashSet<>();
+            int executed = 0;
+            for (Future<MvcResult> future : futures) {
+                MvcResult result = future.get(30, TimeUnit.SECONDS);
+                assertEquals(201, result.getResponse().getStatus());
+                if ("false".equals(result.getResponse().getHeader("Idempotent-Replayed"))) {
+                    executed++;
+                }
+                orderIds.add(readOrderId(result));
+            }
+
+            assertEquals(1, executed);
+            assertEquals(1, orderIds.size());
+            assertEquals(1, orderRepository.findByCustomerId(customer.getId()).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer 409 while another node holds the key and reclaim it once that node dies")
+    void shouldAnswer409WhileAnotherNodeHoldsTheKeyAndReclaimItOnceThatNodeDies() throws Exception {
+        String key = UUID.randomUUID().toString();
+        OrderInputDTO input = orderInput(1);
+        String requestHash = sha256(objectMapper.writeValueAsBytes(input));
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch crash = new CountDownLatch(1);
+        ExecutorService otherNode = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> transaction = otherNode.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                idempotencyKeyRepository.claim("orders:" + key, requestHash, now, now.plusHours(1), Duration.ofSeconds(1));
+                claimed.countDown();
+                await(crash);
+                status.setRollbackOnly();
+            }));
+            assertTrue(claimed.await(10, TimeUnit.SECONDS));
+
+            mockMvc.perform(createOrder(key, input))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.success").value(false));
+
+            crash.countDown();
+            transaction.get(10, TimeUnit.SECONDS);
+        } finally {
+            crash.countDown();
+            otherNode.shutdownNow();
+        }
+
+        mockMvc.perform(createOrder(key, input))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+        assertEquals(1, orderRepository.findByCustomerId(customer.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should answer 409 to a coalesced duplicate once the wait timeout expires")
+    void shouldAnswer409ToACoalescedDuplicateOnceTheWaitTimeoutExpires() throws Exception {
+        String key = UUID.randomUUID().toString();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> leader = executor.submit(() -> idempotencyService.execute("orders", key, orderInput(1), null, () -> {
+                started.countDown();
+                await(release);
+                return "created";
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            long startedAt = System.nanoTime();
+            assertThrows(IdempotencyKeyInProgressException.class,
+                    () -> idempotencyService.execute("orders", key, orderInput(1), null, () -> "duplicate"));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 5_000);
+
+            release.countDown();
+            leader.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject blank and oversized keys")
+    void shouldRejectBlankAndOversizedKeys() {
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute("orders", " ", orderInput(1), null, () -> null));
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute("orders", "k".repeat(256), orderInput(1), null, () -> null));
+    }
+
+    private RequestBuilder createOrder(String key, OrderInputDTO input) throws Exception {
+        return post("/api/orders")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(input));
+    }
+
+    private Long readOrderId(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray()).path("data").path("id").asLong();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    private OrderInputDTO orderInput(int quantity) {
+        return new OrderInputDTO(customer.getId(), List.of(new OrderItemInputDTO(product.getId(), quantity)));
+    }
+}
\ No newline at end of file
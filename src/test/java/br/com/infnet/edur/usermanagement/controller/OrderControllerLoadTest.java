@@ -0,0 +1,150 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.UserManagementApplication;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.service.CustomerService;
+import br.com.infnet.edur.usermanagement.service.ProductService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("benchmark")
+@DisplayName("OrderController Load Test")
+class OrderControllerLoadTest {
+
+    private static final int CONCURRENT_CLIENTS = 400;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(20);
+
+    @Test
+    @DisplayName("Should compare createOrder throughput and p99 latency between platform and virtual threads")
+    void shouldCompareCreateOrderThroughputAndLatencyBetweenThreadingModes() throws Exception {
+        LoadResult platform = run("platform-threads");
+        System.out.println(platform);
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("virtual-threads: skipped, requires a Java 21+ runtime (running " + Runtime.version() + ")");
+            return;
+        }
+
+        LoadResult virtual = run("virtual-threads", "virtual-threads");
+        System.out.println(virtual);
+        System.out.printf("throughput change: %+.1f%%, p99 change: %+.1f%%%n",
+                (virtual.throughput() - platform.throughput()) / platform.throughput() * 100,
+                (double) (virtual.p99Micros() - platform.p99Micros()) / platform.p99Micros() * 100);
+    }
+
+    private LoadResult run(String mode, String... profiles) throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserManagementApplication.class)
+                .profiles(profiles)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String body = orderBody(context);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            drive(client, request, WARMUP);
+            long start = System.nanoTime();
+            List<ClientResult> results = drive(client, request, MEASUREMENT);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            long[] all = results.stream().map(ClientResult::latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            int errors = results.stream().mapToInt(ClientResult::errors).sum();
+            assertTrue(all.length > 0);
+            return new LoadResult(mode, all.length, errors, (all.length - errors) / elapsedSeconds,
+                    all[(int) Math.ceil(all.length * 0.50) - 1] / 1_000,
+                    all[(int) Math.ceil(all.length * 0.99) - 1] / 1_000);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private List<ClientResult> drive(HttpClient client, HttpRequest request, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+        try {
+            List<Future<ClientResult>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    int errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 201) {
+                                errors++;
+                            }
+                        } catch (IOException ex) {
+                            errors++;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - sent;
+                    }
+                    return new ClientResult(Arrays.copyOf(samples, count), errors);
+                }));
+            }
+            List<ClientResult> results = new ArrayList<>();
+            for (Future<ClientResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static String orderBody(ConfigurableApplicationContext context) {
+        Customer customer = context.getBean(CustomerService.class)
+                .createCustomer(new Customer("Load Test Customer", "load.test@example.com", "+5511988887777"));
+        Product product = context.getBean(ProductService.class)
+                .createProduct(Product.builder().name("Load Test Product").unitPrice(new BigDecimal("10.00")).build());
+        return "{\"customerId\":" + customer.getId()
+                + ",\"orderItems\":[{\"productId\":" + product.getId() + ",\"quantity\":2}]}";
+    }
+
+    private record ClientResult(long[] latencies, int errors) {
+    }
+
+    private record LoadResult(String mode, int requests, int errors, double throughput, long p50Micros, long p99Micros) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d requests, %d errors (%.2f%%), %.0f successful req/s, p50 %d us, p99 %d us",
+                    mode, requests, errors, errors * 100.0 / requests, throughput, p50Micros, p99Micros);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductRepository;
+import br.com.infnet.edur.usermanagement.service.OrderService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@DisplayName("OrderController Purge Tests")
+class OrderControllerPurgeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Purged Customer")
+                .email("purged@example.com")
+                .phoneNumber("+5511944443333")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("Purged Product")
+                .unitPrice(new BigDecimal("5.00"))
+                .build());
+        for (int i = 1; i <= 3; i++) {
+            orderService.createOrder(new OrderInputDTO(customer.getId(), List.of(new OrderItemInputDTO(product.getId(), i))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.findByCustomerId(customer.getId()).forEach(order -> orderService.deleteOrder(order.getId(), null));
+        productRepository.delete(product);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("Should stream purge progress for a customer")
+    void shouldStreamPurgeProgressForACustomer() throws Exception {
+        MvcResult result = mockMvc.perform(delete("/api/orders/customer/{customerId}", customer.getId())
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        JsonNode last = objectMapper.readTree(lines[lines.length - 1]);
+        assertEquals(3, last.get("ordersDeleted").asLong());
+        assertTrue(last.get("completed").asBoolean());
+        assertTrue(orderRepository.findByCustomerId(customer.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should answer 404 before streaming when the customer does not exist")
+    void shouldAnswer404BeforeStreamingWhenTheCustomerDoesNotExist() throws Exception {
+        mockMvc.perform(delete("/api/orders/customer/{customerId}", Long.MAX_VALUE)
+                        .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value(404));
+
+        assertEquals(3, orderRepository.findByCustomerId(customer.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should answer 400 before streaming when the date range is inverted")
+    void shouldAnswer400BeforeStreamingWhenTheDateRangeIsInverted() throws Exception {
+        mockMvc.perform(delete("/api/orders")
+                        .param("from", "2026-10-10")
+                        .param("to", "2026-01-01")
+                        .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value(400));
+
+        assertEquals(3, orderRepository.findByCustomerId(customer.getId()).size());
+    }
+}
\ No newline at end of file
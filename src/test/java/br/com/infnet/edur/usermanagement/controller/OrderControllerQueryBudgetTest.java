@@ -0,0 +1,128 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.metrics.QueryBudget;
+import br.com.infnet.edur.usermanagement.metrics.QueryMetricsFilter;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("OrderController Query Budget Tests")
+class OrderControllerQueryBudgetTest {
+
+    private static final int ORDER_COUNT = 10;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Order firstOrder;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = Customer.builder()
+                .name("Budget Customer")
+                .email("budget@example.com")
+                .phoneNumber("+5511966665555")
+                .build();
+        entityManager.persist(customer);
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder()
+                    .customer(customer)
+                    .orderDate(LocalDateTime.now())
+                    .build();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Product product = Product.builder()
+                        .name("Budget Product " + i + "-" + j)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build();
+                entityManager.persist(product);
+                order.addOrderItem(OrderItem.builder()
+                        .product(product)
+                        .quantity(1)
+                        .unitPrice(product.getUnitPrice())
+                        .build());
+            }
+            entityManager.persist(order);
+            if (firstOrder == null) {
+                firstOrder = order;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @QueryBudget(statements = 2, collectionFetches = 0)
+    @DisplayName("Should serve orders page within its query budget")
+    void shouldServeOrdersPageWithinItsQueryBudget() throws Exception {
+        mockMvc.perform(get("/api/orders").param("size", String.valueOf(ORDER_COUNT)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(ORDER_COUNT)));
+    }
+
+    @Test
+    @QueryBudget(statements = 1, collectionFetches = 0)
+    @DisplayName("Should serve single order within its query budget")
+    void shouldServeSingleOrderWithinItsQueryBudget() throws Exception {
+        mockMvc.perform(get("/api/orders/{id}", firstOrder.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderItems", hasSize(ITEMS_PER_ORDER)));
+    }
+
+    @Test
+    @DisplayName("Should expose query counts as response headers")
+    void shouldExposeQueryCountsAsResponseHeaders() throws Exception {
+        mockMvc.perform(get("/api/orders").param("size", String.valueOf(ORDER_COUNT)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryMetricsFilter.STATEMENTS_HEADER, "2"))
+                .andExpect(header().exists(QueryMetricsFilter.ENTITY_LOADS_HEADER))
+                .andExpect(header().string(QueryMetricsFilter.COLLECTION_FETCHES_HEADER, "0"));
+    }
+
+    @Test
+    @DisplayName("Should count JdbcTemplate statements alongside Hibernate statements")
+    void shouldCountJdbcTemplateStatementsAlongsideHibernateStatements() throws Exception {
+        mockMvc.perform(get("/api/orders/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(QueryMetricsFilter.STATEMENTS_HEADER, "2"));
+    }
+
+    @Test
+    @DisplayName("Should expose query counts on pre-encoded pages")
+    void shouldExposeQueryCountsOnPreEncodedPages() throws Exception {
+        mockMvc.perform(get("/api/products").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(QueryMetricsFilter.STATEMENTS_HEADER))
+                .andExpect(header().string(QueryMetricsFilter.COLLECTION_FETCHES_HEADER, "0"))
+                .andExpect(jsonPath("$.data.items", hasSize(5)));
+    }
+}
\ No newline at end of file
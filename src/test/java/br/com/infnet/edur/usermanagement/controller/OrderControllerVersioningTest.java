@@ -0,0 +1,290 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductRepository;
+import br.com.infnet.edur.usermanagement.service.CustomerService;
+import br.com.infnet.edur.usermanagement.service.OrderService;
+import br.com.infnet.edur.usermanagement.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@DisplayName("OrderController Versioning Tests")
+class OrderControllerVersioningTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Customer customer;
+    private Product product;
+    private Order order;
+    private long version;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Versioned Customer")
+                .email("versioned@example.com")
+                .phoneNumber("+5511977776666")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("Versioned Product")
+                .unitPrice(new BigDecimal("4.00"))
+                .build());
+        order = orderService.createOrder(orderInput(1));
+        version = order.getVersion();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.findById(order.getId()).ifPresent(existing -> orderService.deleteOrder(existing.getId(), null));
+        productRepository.delete(product);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("Should lead the order ETag with the order version")
+    void shouldLeadTheOrderETagWithTheOrderVersion() throws Exception {
+        mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"" + version + ".")))
+                .andExpect(jsonPath("$.data.version").value(version));
+    }
+
+    @Test
+    @DisplayName("Should accept the issued ETag in If-Match")
+    void shouldAcceptTheIssuedETagInIfMatch() throws Exception {
+        mockMvc.perform(put("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, currentTag())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderInput(2))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, currentTag()));
+    }
+
+    @Test
+    @DisplayName("Should update when If-Match carries the current version")
+    void shouldUpdateWhenIfMatchCarriesTheCurrentVersion() throws Exception {
+        mockMvc.perform(put("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderInput(3))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"" + (version + 1) + ".")))
+                .andExpect(jsonPath("$.data.totalAmount").value(12.00));
+    }
+
+    @Test
+    @DisplayName("Should reject a stale If-Match with 412 and leave the order untouched")
+    void shouldRejectAStaleIfMatchWith412AndLeaveTheOrderUntouched() throws Exception {
+        orderService.updateOrder(order.getId(), orderInput(2), null);
+
+        mockMvc.perform(put("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderInput(5))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.success").value(false));
+        mockMvc.perform(delete("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + version + "\""))
+                .andExpect(status().isPreconditionFailed());
+
+        Order current = orderService.getOrderById(order.getId());
+        assertEquals(version + 1, current.getVersion());
+        assertEquals(2, current.getOrderItems().get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should bump the version when items change through the item endpoints")
+    void shouldBumpTheVersionWhenItemsChangeThroughTheItemEndpoints() throws Exception {
+        Long itemId = orderService.getOrderById(order.getId()).getOrderItems().get(0).getId();
+
+        mockMvc.perform(put("/api/order-items/{id}", itemId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":" + product.getId() + ",\"quantity\":7}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"" + (version + 1) + ".")))
+                .andExpect(jsonPath("$.data.totalAmount").value(28.00));
+    }
+
+    @Test
+    @DisplayName("Should patch item quantities under If-Match and reject the stale tag afterwards")
+    void shouldPatchItemQuantitiesUnderIfMatchAndRejectTheStaleTagAfterwards() throws Exception {
+        String patch = "{\"orderItems\":[{\"productId\":" + product.getId() + ",\"quantity\":4}]}";
+
+        mockMvc.perform(patch("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(patch))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"" + (version + 1) + ".")))
+                .andExpect(jsonPath("$.data.orderItems[0].quantity").value(4))
+                .andExpect(jsonPath("$.data.totalAmount").value(16.00));
+
+        mockMvc.perform(patch("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(patch))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 while If-None-Match carries the current version")
+    void shouldAnswer304WhileIfNoneMatchCarriesTheCurrentVersion() throws Exception {
+        String eTag = currentTag();
+        mockMvc.perform(get("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        orderService.updateOrder(order.getId(), orderInput(2), null);
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"" + (version + 1) + ".")))
+                .andExpect(jsonPath("$.data.totalAmount").value(8.00));
+    }
+
+    @Test
+    @DisplayName("Should answer 200 after the customer shown in the order changes")
+    void shouldAnswer200AfterTheCustomerShownInTheOrderChanges() throws Exception {
+        String eTag = currentTag();
+
+        customerService.updateCustomer(customer.getId(), new Customer("Renamed Customer", customer.getEmail(), customer.getPhoneNumber()));
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.data.customer.name").value("Renamed Customer"));
+        assertEquals(version, orderRepository.findById(order.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should answer 200 after a product shown in the order changes")
+    void shouldAnswer200AfterAProductShownInTheOrderChanges() throws Exception {
+        String eTag = currentTag();
+
+        productService.updateProduct(product.getId(), new Product("Renamed Versioned Product", product.getUnitPrice()));
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.data.orderItems[0].product.name").value("Renamed Versioned Product"));
+    }
+
+    @Test
+    @DisplayName("Should tag list pages and answer 304 until the page changes")
+    void shouldTagListPagesAndAnswer304UntilThePageChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/orders/customer/{customerId}", customer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/orders/customer/{customerId}", customer.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        orderService.updateOrder(order.getId(), orderInput(2), null);
+
+        mockMvc.perform(get("/api/orders/customer/{customerId}", customer.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].totalAmount").value(8.00));
+    }
+
+    @Test
+    @DisplayName("Should answer 412 for weak or malformed If-Match tags")
+    void shouldAnswer412ForWeakOrMalformedIfMatchTags() throws Exception {
+        for (String ifMatch : List.of("v0", "W/\"" + version + "\"", "\"v" + version + "\"")) {
+            mockMvc.perform(put("/api/orders/{id}", order.getId())
+                            .header(HttpHeaders.IF_MATCH, ifMatch)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(orderInput(2))))
+                    .andExpect(status().isPreconditionFailed());
+        }
+
+        assertEquals(version, orderService.getOrderById(order.getId()).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should update when any tag in an If-Match list carries the current version")
+    void shouldUpdateWhenAnyTagInAnIfMatchListCarriesTheCurrentVersion() throws Exception {
+        mockMvc.perform(put("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, "W/\"" + version + "\", \"" + (version + 7) + "\", " + currentTag())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderInput(3))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"" + (version + 1) + ".")));
+        mockMvc.perform(delete("/api/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + version + "\", \"" + (version + 7) + "\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private String currentTag() throws Exception {
+        return mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private OrderInputDTO orderInput(int quantity) {
+        return new OrderInputDTO(customer.getId(), List.of(new OrderItemInputDTO(product.getId(), quantity)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package br.com.infnet.edur.usermanagement.controller;
+
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.service.OrderItemService;
+import br.com.infnet.edur.usermanagement.service.OrderService;
+import br.com.infnet.edur.usermanagement.utils.exceptions.OrderArchivedException;
+import br.com.infnet.edur.usermanagement.utils.exceptions.OrderNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OrderItemController.class)
+@DisplayName("OrderItemController Tests")
+class OrderItemControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderItemService orderItemService;
+
+    @MockBean
+    private OrderService orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should add an item to an active order")
+    void shouldAddAnItemToAnActiveOrder() throws Exception {
+        Order order = Order.builder().id(1L).build();
+        Product product = Product.builder().id(2L).name("Product 1").unitPrice(new BigDecimal("10.00")).build();
+        OrderItem orderItem = OrderItem.builder().id(3L).order(order).product(product).quantity(2).unitPrice(new BigDecimal("10.00")).build();
+        when(orderService.getActiveOrder(1L)).thenReturn(order);
+        when(orderItemService.createOrderItem(eq(order), any(OrderItemInputDTO.class))).thenReturn(orderItem);
+
+        mockMvc.perform(post("/api/order-items/order/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderItemInputDTO(2L, 2))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.id", is(3)))
+                .andExpect(jsonPath("$.data.quantity", is(2)));
+
+        verify(orderService, never()).getOrderById(any());
+    }
+
+    @Test
+    @DisplayName("Should return 409 when adding an item to an archived order")
+    void shouldReturn409WhenAddingAnItemToAnArchivedOrder() throws Exception {
+        when(orderService.getActiveOrder(1L)).thenThrow(new OrderArchivedException(1L));
+
+        mockMvc.perform(post("/api/order-items/order/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderItemInputDTO(2L, 2))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success", is(false)))
+                .andExpect(jsonPath("$.code", is(409)));
+
+        verify(orderItemService, never()).createOrderItem(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when adding an item to a missing order")
+    void shouldReturn404WhenAddingAnItemToAMissingOrder() throws Exception {
+        when(orderService.getActiveOrder(99L)).thenThrow(new OrderNotFoundException(99L));
+
+        mockMvc.perform(post("/api/order-items/order/99")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderItemInputDTO(2L, 2))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success", is(false)));
+
+        verify(orderItemService, never()).createOrderItem(any(), any());
+    }
+}
\ No newline at end of file
@@ -1,5 +1,8 @@
 package br.com.infnet.edur.usermanagement.controller;
 
+import br.com.infnet.edur.usermanagement.cache.ResponseBodyCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseRegion;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.dto.request.ProductInputDTO;
 import br.com.infnet.edur.usermanagement.model.Product;
 import br.com.infnet.edur.usermanagement.service.ProductService;
@@ -11,6 +14,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -27,6 +32,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProductController.class)
+@Import(ResponseBodyCache.class)
 @DisplayName("ProductController Tests")
 class ProductControllerTest {
 
@@ -39,11 +45,16 @@ class ProductControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
     private Product testProduct;
     private ProductInputDTO testProductInputDTO;
 
     @BeforeEach
     void setUp() {
+        responseBodyCache.invalidate(ResponseRegion.PRODUCTS);
+
         testProduct = Product.builder()
                 .id(1L)
                 .name("Test Product")
@@ -63,19 +74,38 @@ class ProductControllerTest {
         Product product2 = Product.builder().id(2L).name("Product 2").unitPrice(new BigDecimal("20.00")).build();
         List<Product> products = Arrays.asList(product1, product2);
 
-        when(productService.getAllProducts()).thenReturn(products);
+        when(productService.getProductsPage(null, null)).thenReturn(new CursorPage<>(products, null, false));
 
         mockMvc.perform(get("/api/products"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
                 .andExpect(jsonPath("$.code", is(200)))
-                .andExpect(jsonPath("$.data", hasSize(2)))
-                .andExpect(jsonPath("$.data[0].id", is(1)))
-                .andExpect(jsonPath("$.data[0].name", is("Product 1")))
-                .andExpect(jsonPath("$.data[1].id", is(2)))
-                .andExpect(jsonPath("$.data[1].name", is("Product 2")));
+                .andExpect(jsonPath("$.data.items", hasSize(2)))
+                .andExpect(jsonPath("$.data.items[0].id", is(1)))
+                .andExpect(jsonPath("$.data.items[0].name", is("Product 1")))
+                .andExpect(jsonPath("$.data.items[1].id", is(2)))
+                .andExpect(jsonPath("$.data.items[1].name", is("Product 2")));
+
+        verify(productService).getProductsPage(null, null);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated list requests from the encoded page cache")
+    void shouldServeRepeatedListRequestsFromTheEncodedPageCache() throws Exception {
+        when(productService.getProductsPage(null, 2)).thenReturn(new CursorPage<>(List.of(testProduct), null, false));
+
+        String eTag = mockMvc.perform(get("/api/products").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/products").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(jsonPath("$.data.items[0].name", is("Test Product")));
+        mockMvc.perform(get("/api/products").param("size", "2").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
 
-        verify(productService).getAllProducts();
+        verify(productService, times(1)).getProductsPage(null, 2);
     }
 
     @Test
@@ -94,6 +124,28 @@ class ProductControllerTest {
         verify(productService).getProductById(1L);
     }
 
+    @Test
+    @DisplayName("Should answer 304 when If-None-Match carries the product ETag")
+    void shouldAnswer304WhenIfNoneMatchCarriesTheProductETag() throws Exception {
+        when(productService.getProductById(1L)).thenReturn(testProduct);
+
+        String eTag = mockMvc.perform(get("/api/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/products/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        when(productService.getProductById(1L)).thenReturn(
+                Product.builder().id(1L).name("Test Product").unitPrice(new BigDecimal("21.99")).build());
+        mockMvc.perform(get("/api/products/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.unitPrice", is(21.99)));
+    }
+
     @Test
     @DisplayName("Should return 404 when product not found by id")
     void shouldReturn404WhenProductNotFoundById() throws Exception {
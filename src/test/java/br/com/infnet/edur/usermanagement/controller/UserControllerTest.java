@@ -1,10 +1,12 @@
 package br.com.infnet.edur.usermanagement.controller;
 
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.dto.request.UserInputDTO;
 import br.com.infnet.edur.usermanagement.model.User;
 import br.com.infnet.edur.usermanagement.service.UserService;
 import br.com.infnet.edur.usermanagement.utils.exceptions.UserAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.UserNotFoundException;
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -67,19 +69,38 @@ class UserControllerTest {
         User user2 = User.builder().id(2L).firstName("Jane").lastName("Smith").email("jane@example.com").phoneNumber("+2222222222").build();
         List<User> users = Arrays.asList(user1, user2);
 
-        when(userService.getAllUsers()).thenReturn(users);
+        when(userService.getUsersPage(null, null)).thenReturn(new CursorPage<>(users, null, false));
 
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
                 .andExpect(jsonPath("$.code", is(200)))
-                .andExpect(jsonPath("$.data", hasSize(2)))
-                .andExpect(jsonPath("$.data[0].id", is(1)))
-                .andExpect(jsonPath("$.data[0].firstName", is("John")))
-                .andExpect(jsonPath("$.data[1].id", is(2)))
-                .andExpect(jsonPath("$.data[1].firstName", is("Jane")));
+                .andExpect(jsonPath("$.data.items", hasSize(2)))
+                .andExpect(jsonPath("$.data.items[0].id", is(1)))
+                .andExpect(jsonPath("$.data.items[0].firstName", is("John")))
+                .andExpect(jsonPath("$.data.items[1].id", is(2)))
+                .andExpect(jsonPath("$.data.items[1].firstName", is("Jane")))
+                .andExpect(jsonPath("$.data.hasNext", is(false)));
+
+        verify(userService).getUsersPage(null, null);
+    }
+
+    @Test
+    @DisplayName("Should pass cursor and size when getting users page")
+    void shouldPassCursorAndSizeWhenGettingUsersPage() throws Exception {
+        User user = User.builder().id(3L).firstName("John").lastName("Doe").email("john@example.com").phoneNumber("+1111111111").build();
+        String cursor = KeysetCursor.encode(2L);
+
+        when(userService.getUsersPage(cursor, 1)).thenReturn(new CursorPage<>(List.of(user), KeysetCursor.encode(3L), true));
+
+        mockMvc.perform(get("/api/users").param("cursor", cursor).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].id", is(3)))
+                .andExpect(jsonPath("$.data.nextCursor", is(KeysetCursor.encode(3L))))
+                .andExpect(jsonPath("$.data.hasNext", is(true)));
 
-        verify(userService).getAllUsers();
+        verify(userService).getUsersPage(cursor, 1);
     }
 
     @Test
@@ -276,14 +297,14 @@ class UserControllerTest {
     @Test
     @DisplayName("Should return empty list when no users exist")
     void shouldReturnEmptyListWhenNoUsersExist() throws Exception {
-        when(userService.getAllUsers()).thenReturn(Arrays.asList());
+        when(userService.getUsersPage(null, null)).thenReturn(new CursorPage<>(Arrays.asList(), null, false));
 
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
                 .andExpect(jsonPath("$.code", is(200)))
-                .andExpect(jsonPath("$.data", hasSize(0)));
+                .andExpect(jsonPath("$.data.items", hasSize(0)));
 
-        verify(userService).getAllUsers();
+        verify(userService).getUsersPage(null, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import br.com.infnet.edur.usermanagement.model.User;
+import br.com.infnet.edur.usermanagement.service.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+@DisplayName("Application Metrics Tests")
+class ApplicationMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("Should record controller and service latency")
+    void shouldRecordControllerAndServiceLatency() throws Exception {
+        User user = userService.createUser(User.builder()
+                .firstName("Metrics")
+                .lastName("User")
+                .email("metrics.user@example.com")
+                .phoneNumber("+5511977776666")
+                .build());
+
+        mockMvc.perform(get("/api/users/{id}", user.getId())).andExpect(status().isOk());
+
+        Timer controllerTimer = meterRegistry.find(MethodLatencyAspect.METRIC_NAME)
+                .tags("layer", "controller", "class", "UserController", "method", "getUserById", "exception", "none")
+                .timer();
+        Timer serviceTimer = meterRegistry.find(MethodLatencyAspect.METRIC_NAME)
+                .tags("layer", "service", "class", "UserService", "method", "getUserById")
+                .timer();
+        assertNotNull(controllerTimer);
+        assertNotNull(serviceTimer);
+        assertTrue(controllerTimer.count() >= 1);
+        assertTrue(serviceTimer.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Should record SQL statements per request")
+    void shouldRecordSqlStatementsPerRequest() throws Exception {
+        mockMvc.perform(get("/api/suppliers")).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find(QueryMetricsFilter.STATEMENTS_METRIC_NAME)
+                .tags("method", "GET", "uri", "/api/suppliers")
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.max() >= 1);
+    }
+
+    @Test
+    @DisplayName("Should count handled exceptions by type and status")
+    void shouldCountHandledExceptionsByTypeAndStatus() throws Exception {
+        double before = errorCount("ProductNotFoundException", "404");
+
+        mockMvc.perform(get("/api/products/{id}", 987654L)).andExpect(status().isNotFound());
+
+        assertEquals(before + 1, errorCount("ProductNotFoundException", "404"));
+    }
+
+    @Test
+    @DisplayName("Should expose latency percentiles on the prometheus endpoint")
+    void shouldExposeLatencyPercentilesOnThePrometheusEndpoint() throws Exception {
+        mockMvc.perform(get("/api/customers")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("app_method_latency_seconds{")))
+                .andExpect(content().string(containsString("quantile=\"0.999\"")))
+                .andExpect(content().string(containsString("app_request_sql_statements")));
+    }
+
+    private double errorCount(String exception, String status) {
+        Counter counter = meterRegistry.find(ExceptionHandlerMetricsAspect.METRIC_NAME)
+                .tags("exception", exception, "status", status)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
\ No newline at end of file
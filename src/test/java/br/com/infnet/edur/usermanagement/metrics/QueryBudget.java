@@ -0,0 +1,22 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+    
+    long UNLIMITED = -1;
+    
+    long statements();
+    
+    long entityLoads() default UNLIMITED;
+    
+    long collectionFetches() default UNLIMITED;
+}
\ No newline at end of file
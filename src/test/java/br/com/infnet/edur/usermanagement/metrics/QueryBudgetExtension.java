@@ -0,0 +1,69 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+    
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        List<QueryCounts> requests = Collections.synchronizedList(new ArrayList<>());
+        ApplicationListener<PayloadApplicationEvent<QueryCounts>> listener = ApplicationListener.forPayload(requests::add);
+        applicationContext(context).addApplicationListener(listener);
+        context.getStore(NAMESPACE).put(List.class, requests);
+        context.getStore(NAMESPACE).put(ApplicationListener.class, listener);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        applicationContext(context).removeApplicationListener(store.remove(ApplicationListener.class, ApplicationListener.class));
+        List<QueryCounts> requests = store.remove(List.class, List.class);
+        if (context.getExecutionException().isEmpty()) {
+            verify(budget(context), List.copyOf(requests));
+        }
+    }
+    
+    static void verify(QueryBudget budget, List<QueryCounts> requests) {
+        List<String> violations = new ArrayList<>();
+        for (QueryCounts counts : requests) {
+            if (exceeds(counts.getStatements(), budget.statements())
+                    || exceeds(counts.getEntityLoads(), budget.entityLoads())
+                    || exceeds(counts.getCollectionFetches(), budget.collectionFetches())) {
+                violations.add(counts.toString());
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Query budget exceeded (statements=" + budget.statements()
+                    + ", entityLoads=" + budget.entityLoads() + ", collectionFetches=" + budget.collectionFetches()
+                    + "): " + String.join("; ", violations));
+        }
+    }
+    
+    private static boolean exceeds(long actual, long limit) {
+        return limit != QueryBudget.UNLIMITED && actual > limit;
+    }
+    
+    private static QueryBudget budget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElseThrow();
+    }
+    
+    private static ConfigurableApplicationContext applicationContext(ExtensionContext context) {
+        return (ConfigurableApplicationContext) SpringExtension.getApplicationContext(context);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package br.com.infnet.edur.usermanagement.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueryBudgetExtension Tests")
+class QueryBudgetExtensionTest {
+
+    @Test
+    @DisplayName("Should pass when every request stays within the budget")
+    void shouldPassWhenEveryRequestStaysWithinTheBudget() throws NoSuchMethodException {
+        QueryBudget budget = budget("statementsOnly");
+
+        assertDoesNotThrow(() -> QueryBudgetExtension.verify(budget, List.of(counts("GET /api/orders", 3, 50, 10))));
+    }
+
+    @Test
+    @DisplayName("Should fail when a request exceeds the statement budget")
+    void shouldFailWhenARequestExceedsTheStatementBudget() throws NoSuchMethodException {
+        QueryBudget budget = budget("statementsOnly");
+
+        AssertionError error = assertThrows(AssertionError.class, () -> QueryBudgetExtension.verify(budget,
+                List.of(counts("GET /api/orders", 2, 0, 0), counts("GET /api/orders/{id}", 4, 0, 0))));
+        assertTrue(error.getMessage().contains("GET /api/orders/{id}: 4 statements"));
+        assertFalse(error.getMessage().contains("GET /api/orders: 2 statements"));
+    }
+
+    @Test
+    @DisplayName("Should fail when a request exceeds the collection fetch budget")
+    void shouldFailWhenARequestExceedsTheCollectionFetchBudget() throws NoSuchMethodException {
+        QueryBudget budget = budget("withCollectionFetches");
+
+        assertThrows(AssertionError.class, () -> QueryBudgetExtension.verify(budget,
+                List.of(counts("GET /api/orders", 1, 0, 1))));
+    }
+
+    private static QueryCounts counts(String request, long statements, long entityLoads, long collectionFetches) {
+        QueryCounts counts = new QueryCounts();
+        counts.setRequest(request);
+        for (long i = 0; i < statements; i++) {
+            counts.incrementStatements();
+        }
+        for (long i = 0; i < entityLoads; i++) {
+            counts.incrementEntityLoads();
+        }
+        for (long i = 0; i < collectionFetches; i++) {
+            counts.incrementCollectionFetches();
+        }
+        return counts;
+    }
+
+    private static QueryBudget budget(String methodName) throws NoSuchMethodException {
+        return Budgets.class.getDeclaredMethod(methodName).getAnnotation(QueryBudget.class);
+    }
+
+    private static class Budgets {
+
+        @QueryBudget(statements = 3)
+        void statementsOnly() {
+        }
+
+        @QueryBudget(statements = 3, collectionFetches = 0)
+        void withCollectionFetches() {
+        }
+    }
+}
\ No newline at end of file
@@ -163,6 +163,28 @@ class OrderTest {
         assertNull(orderItem.getOrder());
     }
 
+    @Test
+    @DisplayName("Should keep total amount in sync when removing item")
+    void shouldKeepTotalAmountInSyncWhenRemovingItem() {
+        Order order = new Order(testCustomer);
+        OrderItem orderItem1 = OrderItem.builder()
+                .product(testProduct)
+                .quantity(2)
+                .unitPrice(new BigDecimal("10.00"))
+                .build();
+        OrderItem orderItem2 = OrderItem.builder()
+                .product(testProduct)
+                .quantity(1)
+                .unitPrice(new BigDecimal("5.00"))
+                .build();
+
+        order.addOrderItem(orderItem1);
+        order.addOrderItem(orderItem2);
+        order.removeOrderItem(orderItem1);
+
+        assertEquals(new BigDecimal("5.00"), order.getTotalAmount());
+    }
+
     @Test
     @DisplayName("Should maintain bidirectional relationship when adding item")
     void shouldMaintainBidirectionalRelationshipWhenAddingItem() {
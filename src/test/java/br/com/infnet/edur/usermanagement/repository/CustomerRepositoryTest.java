@@ -1,12 +1,15 @@
 package br.com.infnet.edur.usermanagement.repository;
 
 import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.repository.projection.NamedUniqueFieldsView;
+import br.com.infnet.edur.usermanagement.utils.exceptions.ConstraintViolations;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
 import java.util.Optional;
@@ -213,4 +216,44 @@ class CustomerRepositoryTest {
         assertTrue(customerRepository.existsByEmail("john1@example.com"));
         assertTrue(customerRepository.existsByEmail("john2@example.com"));
     }
+
+    @Test
+    @DisplayName("Should report all colliding unique fields in a single query")
+    void shouldReportAllCollidingUniqueFieldsInSingleQuery() {
+        Customer existing = entityManager.persistAndFlush(Customer.builder()
+                .name("Existing")
+                .email("existing@example.com")
+                .phoneNumber("+1111111111")
+                .build());
+
+        List<NamedUniqueFieldsView> conflicts = customerRepository.findUniqueFieldConflicts(
+                null, null, "existing@example.com", "+2222222222");
+        List<NamedUniqueFieldsView> excludingSelf = customerRepository.findUniqueFieldConflicts(
+                existing.getId(), "Existing", "existing@example.com", "+1111111111");
+
+        assertEquals(1, conflicts.size());
+        assertEquals("existing@example.com", conflicts.get(0).getEmail());
+        assertEquals("+1111111111", conflicts.get(0).getPhoneNumber());
+        assertTrue(excludingSelf.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should name the email unique constraint on violation")
+    void shouldNameEmailUniqueConstraintOnViolation() {
+        entityManager.persistAndFlush(Customer.builder()
+                .name("First")
+                .email("duplicate@example.com")
+                .phoneNumber("+1111111111")
+                .build());
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> customerRepository.saveAndFlush(Customer.builder()
+                        .name("Second")
+                        .email("duplicate@example.com")
+                        .phoneNumber("+2222222222")
+                        .build()));
+
+        assertTrue(ConstraintViolations.isViolationOf(exception, Customer.EMAIL_CONSTRAINT));
+        assertFalse(ConstraintViolations.isViolationOf(exception, Customer.PHONE_NUMBER_CONSTRAINT));
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -251,4 +252,22 @@ class OrderRepositoryTest {
         assertEquals(1, customer2Orders.size());
         assertEquals(3, orderRepository.findAll().size());
     }
+
+    @Test
+    @DisplayName("Should adjust persisted total amount by delta")
+    void shouldAdjustPersistedTotalAmountByDelta() {
+        Customer savedCustomer = entityManager.persistAndFlush(testCustomer);
+        Order savedOrder = entityManager.persistAndFlush(Order.builder()
+                .customer(savedCustomer)
+                .orderDate(LocalDateTime.now())
+                .totalAmount(new BigDecimal("10.00"))
+                .build());
+
+        int updated = orderRepository.adjustTotalAmount(savedOrder.getId(), new BigDecimal("5.50"));
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        Order foundOrder = orderRepository.findById(savedOrder.getId()).orElseThrow();
+        assertEquals(0, new BigDecimal("15.50").compareTo(foundOrder.getTotalAmount()));
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -190,4 +191,18 @@ class ProductRepositoryTest {
         assertTrue(foundProduct.isPresent());
         assertEquals(0, precisePrice.compareTo(foundProduct.get().getUnitPrice()));
     }
+
+    @Test
+    @DisplayName("Should find products after id in keyset order")
+    void shouldFindProductsAfterIdInKeysetOrder() {
+        Product first = entityManager.persistAndFlush(Product.builder().name("Product A").unitPrice(new BigDecimal("1.00")).build());
+        Product second = entityManager.persistAndFlush(Product.builder().name("Product B").unitPrice(new BigDecimal("2.00")).build());
+        Product third = entityManager.persistAndFlush(Product.builder().name("Product C").unitPrice(new BigDecimal("3.00")).build());
+
+        List<Product> firstPage = productRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+        List<Product> secondPage = productRepository.findByIdGreaterThanOrderByIdAsc(second.getId(), Limit.of(2));
+
+        assertEquals(List.of(first.getId(), second.getId()), firstPage.stream().map(Product::getId).toList());
+        assertEquals(List.of(third.getId()), secondPage.stream().map(Product::getId).toList());
+    }
 }
\ No newline at end of file
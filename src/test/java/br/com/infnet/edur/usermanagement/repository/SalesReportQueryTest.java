@@ -0,0 +1,207 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.projection.CustomerRevenueView;
+import br.com.infnet.edur.usermanagement.repository.projection.PeriodRevenueView;
+import br.com.infnet.edur.usermanagement.repository.projection.ProductSalesView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({SalesSummaryRepository.class, OrderArchiveRepository.class})
+@DisplayName("Sales Report Query Tests")
+class SalesReportQueryTest {
+
+    private static final LocalDate FROM_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO_DATE = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private SalesSummaryRepository salesSummaryRepository;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private ProductDailySalesRepository productDailySalesRepository;
+
+    @Autowired
+    private CustomerDailySalesRepository customerDailySalesRepository;
+
+    private Customer alice;
+    private Customer bob;
+    private Product keyboard;
+    private Product cable;
+    private Order bobJanuaryOrder;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(Customer.builder()
+                .name("Alice")
+                .email("alice@example.com")
+                .phoneNumber("+5511911110000")
+                .build());
+        bob = entityManager.persist(Customer.builder()
+                .name("Bob")
+                .email("bob@example.com")
+                .phoneNumber("+5511922220000")
+                .build());
+        keyboard = entityManager.persist(Product.builder()
+                .name("Keyboard")
+                .unitPrice(new BigDecimal("10.00"))
+                .build());
+        cable = entityManager.persist(Product.builder()
+                .name("Cable")
+                .unitPrice(new BigDecimal("3.00"))
+                .build());
+
+        persistOrder(alice, LocalDateTime.of(2025, 1, 6, 10, 0), item(keyboard, 2), item(cable, 1));
+        bobJanuaryOrder = persistOrder(bob, LocalDateTime.of(2025, 1, 8, 9, 0), item(cable, 5));
+        persistOrder(alice, LocalDateTime.of(2025, 2, 3, 12, 0), item(keyboard, 1));
+        persistOrder(bob, LocalDateTime.of(2024, 12, 31, 23, 0), item(keyboard, 7));
+        entityManager.flush();
+        salesSummaryRepository.rebuild();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should sum revenue per customer ordered by revenue")
+    void shouldSumRevenuePerCustomerOrderedByRevenue() {
+        List<CustomerRevenueView> revenue = customerDailySalesRepository.sumRevenueByCustomer(FROM_DATE, TO_DATE, Limit.of(10));
+
+        assertEquals(2, revenue.size());
+        assertEquals(alice.getId(), revenue.get(0).getCustomerId());
+        assertEquals("Alice", revenue.get(0).getCustomerName());
+        assertEquals(2L, revenue.get(0).getOrderCount());
+        assertEquals(0, new BigDecimal("33.00").compareTo(revenue.get(0).getRevenue()));
+        assertEquals(bob.getId(), revenue.get(1).getCustomerId());
+        assertEquals(0, new BigDecimal("15.00").compareTo(revenue.get(1).getRevenue()));
+    }
+
+    @Test
+    @DisplayName("Should apply date range and limit to customer revenue")
+    void shouldApplyDateRangeAndLimitToCustomerRevenue() {
+        List<CustomerRevenueView> revenue = customerDailySalesRepository.sumRevenueByCustomer(
+                LocalDate.of(2025, 1, 7), TO_DATE, Limit.of(1));
+
+        assertEquals(1, revenue.size());
+        assertEquals(bob.getId(), revenue.get(0).getCustomerId());
+        assertEquals(0, new BigDecimal("15.00").compareTo(revenue.get(0).getRevenue()));
+    }
+
+    @Test
+    @DisplayName("Should sum revenue and quantity per product")
+    void shouldSumRevenueAndQuantityPerProduct() {
+        List<ProductSalesView> sales = productDailySalesRepository.sumRevenueByProduct(FROM_DATE, TO_DATE, Limit.of(10));
+
+        assertEquals(2, sales.size());
+        assertEquals(keyboard.getId(), sales.get(0).getProductId());
+        assertEquals(3L, sales.get(0).getQuantity());
+        assertEquals(0, new BigDecimal("30.00").compareTo(sales.get(0).getRevenue()));
+        assertEquals(cable.getId(), sales.get(1).getProductId());
+        assertEquals(6L, sales.get(1).getQuantity());
+        assertEquals(0, new BigDecimal("18.00").compareTo(sales.get(1).getRevenue()));
+    }
+
+    @Test
+    @DisplayName("Should rank top products by quantity")
+    void shouldRankTopProductsByQuantity() {
+        List<ProductSalesView> top = productDailySalesRepository.findTopProductsByQuantity(FROM_DATE, TO_DATE, Limit.of(1));
+
+        assertEquals(1, top.size());
+        assertEquals("Cable", top.get(0).getProductName());
+        assertEquals(6L, top.get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should rebuild one summary row per product and customer day")
+    void shouldRebuildOneSummaryRowPerProductAndCustomerDay() {
+        assertEquals(5, productDailySalesRepository.count());
+        assertEquals(4, customerDailySalesRepository.count());
+        assertEquals(salesSummaryRepository.scanProductSales().size(), productDailySalesRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should bucket revenue by day, week and month")
+    void shouldBucketRevenueByDayWeekAndMonth() {
+        List<PeriodRevenueView> days = customerDailySalesRepository.sumRevenueByDay(FROM_DATE, TO_DATE);
+        List<PeriodRevenueView> weeks = customerDailySalesRepository.sumRevenueByWeek(FROM_DATE, TO_DATE);
+        List<PeriodRevenueView> months = customerDailySalesRepository.sumRevenueByMonth(FROM_DATE, TO_DATE);
+
+        assertEquals(3, days.size());
+        assertEquals(LocalDateTime.of(2025, 1, 6, 0, 0), days.get(0).getPeriod());
+
+        assertEquals(2, weeks.size());
+        assertEquals(LocalDateTime.of(2025, 1, 6, 0, 0), weeks.get(0).getPeriod());
+        assertEquals(2L, weeks.get(0).getOrderCount());
+        assertEquals(0, new BigDecimal("38.00").compareTo(weeks.get(0).getRevenue()));
+
+        assertEquals(2, months.size());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), months.get(0).getPeriod());
+        assertEquals(0, new BigDecimal("38.00").compareTo(months.get(0).getRevenue()));
+        assertEquals(LocalDateTime.of(2025, 2, 1, 0, 0), months.get(1).getPeriod());
+        assertEquals(0, new BigDecimal("10.00").compareTo(months.get(1).getRevenue()));
+    }
+
+    @Test
+    @DisplayName("Should keep archived orders in period revenue")
+    void shouldKeepArchivedOrdersInPeriodRevenue() {
+        List<Long> orderIds = List.of(bobJanuaryOrder.getId());
+        orderArchiveRepository.copyOrders(orderIds, LocalDateTime.now());
+        orderArchiveRepository.copyOrderItems(orderIds);
+        entityManager.getEntityManager().createNativeQuery("delete from order_items where order_id = :orderId")
+                .setParameter("orderId", bobJanuaryOrder.getId())
+                .executeUpdate();
+        orderRepository.deleteAllByIdInBatch(orderIds);
+        salesSummaryRepository.rebuild();
+
+        List<PeriodRevenueView> weeks = customerDailySalesRepository.sumRevenueByWeek(FROM_DATE, TO_DATE);
+        List<CustomerRevenueView> customers = customerDailySalesRepository.sumRevenueByCustomer(FROM_DATE, TO_DATE, Limit.of(10));
+
+        assertFalse(orderRepository.existsById(bobJanuaryOrder.getId()));
+        assertEquals(2L, weeks.get(0).getOrderCount());
+        assertEquals(0, new BigDecimal("38.00").compareTo(weeks.get(0).getRevenue()));
+        assertEquals(0, customers.stream().map(CustomerRevenueView::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add)
+                .compareTo(weeks.stream().map(PeriodRevenueView::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add)));
+    }
+
+    private OrderItem item(Product product, int quantity) {
+        return OrderItem.builder()
+                .product(product)
+                .quantity(quantity)
+                .unitPrice(product.getUnitPrice())
+                .build();
+    }
+
+    private Order persistOrder(Customer customer, LocalDateTime orderDate, OrderItem... items) {
+        Order order = Order.builder()
+                .customer(customer)
+                .orderDate(orderDate)
+                .build();
+        for (OrderItem item : items) {
+            order.addOrderItem(item);
+        }
+        return entityManager.persist(order);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package br.com.infnet.edur.usermanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.infnet.edur.usermanagement.repository.SchemaIndexTest$GeneratedSql")
+@DisplayName("Schema Index Tests")
+class SchemaIndexTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Test
+    @DisplayName("Should create the schema through validated migrations")
+    void shouldCreateTheSchemaThroughValidatedMigrations() {
+        assertNotNull(flyway.info().current());
+        assertEquals(0, flyway.info().pending().length);
+        assertTrue(flyway.validateWithResult().validationSuccessful);
+    }
+
+    @Test
+    @DisplayName("Should use customer and id index for customer order pages")
+    void shouldUseCustomerAndIdIndexForCustomerOrderPages() {
+        String sql = GeneratedSql.of(() -> orderRepository.findByCustomerIdAndIdGreaterThanOrderByIdAsc(1L, 0L, Limit.of(20)));
+
+        assertUsesIndex("idx_orders_customer_id_id: customer_id = c1_0.id\n        and id > ?2", sql, 1L, 0L, 20);
+    }
+
+    @Test
+    @DisplayName("Should look up orders by customer through a customer index")
+    void shouldLookUpOrdersByCustomerThroughACustomerIndex() {
+        String sql = GeneratedSql.of(() -> orderRepository.findByCustomerId(1L));
+
+        assertLooksUpCustomerIndex(sql, 1L);
+    }
+
+    @Test
+    @DisplayName("Should look up customer purge chunks through a customer index")
+    void shouldLookUpCustomerPurgeChunksThroughACustomerIndex() {
+        String sql = GeneratedSql.of(() -> orderRepository.findIdsByCustomerId(1L, Limit.of(500)));
+
+        assertLooksUpCustomerIndex(sql, 1L, 500);
+    }
+
+    @Test
+    @DisplayName("Should use order date index for date range purge chunks")
+    void shouldUseOrderDateIndexForDateRangePurgeChunks() {
+        String sql = GeneratedSql.of(() -> orderRepository.findIdsByOrderDateRange(FROM, TO, Limit.of(500)));
+
+        assertUsesIndex("idx_orders_order_date", sql, FROM, TO, 500);
+    }
+
+    @Test
+    @DisplayName("Should use order id index when fetching and deleting order items")
+    void shouldUseOrderIdIndexWhenFetchingAndDeletingOrderItems() {
+        String fetch = GeneratedSql.of(() -> orderRepository.findWithOrderItemsByIdIn(List.of(1L, 2L, 3L)));
+        String delete = GeneratedSql.of(() -> orderItemRepository.deleteByOrderIds(List.of(1L, 2L, 3L)));
+
+        assertUsesIndex("idx_order_items_order_id", fetch, 1L, 2L, 3L);
+        assertUsesIndex("idx_order_items_order_id", delete, 1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should index order items by product for product deletes")
+    void shouldIndexOrderItemsByProductForProductDeletes() {
+        Integer columns = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.index_columns " +
+                "where index_name = 'IDX_ORDER_ITEMS_PRODUCT_ID' and column_name = 'PRODUCT_ID'", Integer.class);
+
+        assertEquals(1, columns);
+    }
+
+    private void assertUsesIndex(String index, String sql, Object... params) {
+        String plan = explain(sql, params);
+        assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+    }
+
+    private void assertLooksUpCustomerIndex(String sql, Object... params) {
+        String plan = explain(sql, params);
+        assertFalse(plan.contains("orders.tablescan"), () -> "Expected an index lookup in plan:\n" + plan);
+        assertTrue(plan.contains("customer_id = ?1 */"), () -> "Expected a customer_id index lookup in plan:\n" + plan);
+    }
+
+    private String explain(String sql, Object... params) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class, params).toLowerCase(Locale.ROOT);
+    }
+
+    public static class GeneratedSql implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        static synchronized String of(Runnable query) {
+            STATEMENTS.clear();
+            query.run();
+            assertEquals(1, STATEMENTS.size(), () -> "Expected one statement but got " + STATEMENTS);
+            return STATEMENTS.get(0);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.CustomerImportResultDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "customers.import.batch-size=2")
+@Transactional
+@DisplayName("CustomerImportService Tests")
+class CustomerImportServiceTest {
+
+    @Autowired
+    private CustomerImportService customerImportService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Test
+    @DisplayName("Should import valid NDJSON records across batches")
+    void shouldImportValidNdjsonRecordsAcrossBatches() throws IOException {
+        String body = """
+                {"name":"Import One","email":"import.one@example.com","phoneNumber":"+5511900000001"}
+                {"name":"Import Two","email":"import.two@example.com","phoneNumber":"+5511900000002"}
+                {"name":"Import Three","email":"import.three@example.com","phoneNumber":"+5511900000003"}
+                """;
+
+        List<CustomerImportResultDTO> results = importNdjson(body);
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == CustomerImportResultDTO.Status.CREATED));
+        assertEquals(List.of(1L, 2L, 3L), results.stream().map(CustomerImportResultDTO::getRow).toList());
+        assertTrue(customerRepository.existsByEmail("import.three@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should report invalid records without stopping the import")
+    void shouldReportInvalidRecordsWithoutStoppingTheImport() throws IOException {
+        String body = """
+                {"name":"","email":"not-an-email","phoneNumber":"+5511900000011"}
+                {"name":"Valid Import","email":"valid.import@example.com","phoneNumber":"+5511900000012"}
+                """;
+
+        List<CustomerImportResultDTO> results = importNdjson(body);
+
+        assertEquals(CustomerImportResultDTO.Status.INVALID, results.get(0).getStatus());
+        assertTrue(results.get(0).getErrors().stream().anyMatch(error -> error.startsWith("email:")));
+        assertTrue(results.get(0).getErrors().stream().anyMatch(error -> error.startsWith("name:")));
+        assertEquals(CustomerImportResultDTO.Status.CREATED, results.get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject records duplicated in the import or in the database")
+    void shouldRejectRecordsDuplicatedInTheImportOrInTheDatabase() throws IOException {
+        customerService.createCustomer(new Customer("Existing Import", "existing.import@example.com", "+5511900000021"));
+
+        String body = """
+                {"name":"Existing Copy","email":"existing.import@example.com","phoneNumber":"+5511900000022"}
+                {"name":"First","email":"first.import@example.com","phoneNumber":"+5511900000023"}
+                {"name":"Second","email":"first.import@example.com","phoneNumber":"+5511900000024"}
+                """;
+
+        List<CustomerImportResultDTO> results = importNdjson(body);
+
+        assertEquals(CustomerImportResultDTO.Status.DUPLICATE, results.get(0).getStatus());
+        assertEquals(List.of("email: Customer already exists"), results.get(0).getErrors());
+        assertEquals(CustomerImportResultDTO.Status.CREATED, results.get(1).getStatus());
+        assertEquals(CustomerImportResultDTO.Status.DUPLICATE, results.get(2).getStatus());
+        assertFalse(customerRepository.existsByPhoneNumber("+5511900000024"));
+    }
+
+    @Test
+    @DisplayName("Should import CSV records using the header row")
+    void shouldImportCsvRecordsUsingTheHeaderRow() throws IOException {
+        String body = """
+                email,name,phoneNumber
+                csv.one@example.com, CSV One ,+5511900000031
+                csv.two@example.com,CSV Two,invalid
+                """;
+
+        List<CustomerImportResultDTO> results = new ArrayList<>();
+        customerImportService.importCsv(toStream(body), results::add);
+
+        assertEquals(2, results.size());
+        assertEquals(CustomerImportResultDTO.Status.CREATED, results.get(0).getStatus());
+        assertEquals(CustomerImportResultDTO.Status.INVALID, results.get(1).getStatus());
+        assertEquals("CSV One", customerRepository.findAll().stream()
+                .filter(customer -> "csv.one@example.com".equals(customer.getEmail()))
+                .findFirst()
+                .orElseThrow()
+                .getName());
+    }
+
+    @Test
+    @DisplayName("Should stop at malformed NDJSON and keep earlier rows")
+    void shouldStopAtMalformedNdjsonAndKeepEarlierRows() throws IOException {
+        String body = """
+                {"name":"Before Malformed","email":"before.malformed@example.com","phoneNumber":"+5511900000041"}
+                {"name":"Broken",
+                """;
+
+        List<CustomerImportResultDTO> results = importNdjson(body);
+
+        assertEquals(2, results.size());
+        assertEquals(CustomerImportResultDTO.Status.CREATED, results.get(0).getStatus());
+        assertEquals(CustomerImportResultDTO.Status.FAILED, results.get(1).getStatus());
+        assertTrue(results.get(1).getErrors().get(0).startsWith("Malformed record"));
+    }
+
+    private List<CustomerImportResultDTO> importNdjson(String body) throws IOException {
+        List<CustomerImportResultDTO> results = new ArrayList<>();
+        customerImportService.importNdjson(toStream(body), results::add);
+        return results;
+    }
+
+    private static ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
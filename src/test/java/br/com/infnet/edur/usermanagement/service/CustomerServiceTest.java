@@ -1,9 +1,14 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.SingleFlight;
+import br.com.infnet.edur.usermanagement.cache.UniqueField;
+import br.com.infnet.edur.usermanagement.cache.UniqueFieldFilters;
 import br.com.infnet.edur.usermanagement.model.Customer;
 import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.NamedUniqueFieldsView;
 import br.com.infnet.edur.usermanagement.utils.exceptions.CustomerAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.CustomerNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +36,9 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private UniqueFieldFilters uniqueFieldFilters;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -36,6 +46,8 @@ class CustomerServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(customerService, "singleFlight", new SingleFlight(new SimpleMeterRegistry()));
+
         testCustomer = Customer.builder()
                 .id(1L)
                 .name("John Smith")
@@ -90,38 +102,65 @@ class CustomerServiceTest {
                 .phoneNumber("+9876543210")
                 .build();
 
-        when(customerRepository.existsByEmail(anyString())).thenReturn(false);
-        when(customerRepository.existsByPhoneNumber(anyString())).thenReturn(false);
+        when(customerRepository.findUniqueFieldConflicts(null, null, newCustomer.getEmail(), newCustomer.getPhoneNumber()))
+                .thenReturn(List.of());
         when(customerRepository.save(any(Customer.class))).thenReturn(newCustomer);
 
         Customer result = customerService.createCustomer(newCustomer);
 
         assertEquals(newCustomer.getName(), result.getName());
         assertEquals(newCustomer.getEmail(), result.getEmail());
-        verify(customerRepository).existsByEmail(newCustomer.getEmail());
-        verify(customerRepository).existsByPhoneNumber(newCustomer.getPhoneNumber());
+        verify(customerRepository).findUniqueFieldConflicts(null, null, newCustomer.getEmail(), newCustomer.getPhoneNumber());
         verify(customerRepository).save(newCustomer);
     }
 
+    @Test
+    @DisplayName("Should skip uniqueness query when filters rule out every value")
+    void shouldSkipUniquenessQueryWhenFiltersRuleOutEveryValue() {
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.CUSTOMER_EMAIL, testCustomer.getEmail())).thenReturn(true);
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.CUSTOMER_PHONE_NUMBER, testCustomer.getPhoneNumber())).thenReturn(true);
+        when(customerRepository.save(any(Customer.class))).thenReturn(testCustomer);
+
+        Customer result = customerService.createCustomer(testCustomer);
+
+        assertEquals(testCustomer.getEmail(), result.getEmail());
+        verify(customerRepository, never()).findUniqueFieldConflicts(any(), any(), anyString(), anyString());
+        verify(uniqueFieldFilters).record(UniqueField.CUSTOMER_EMAIL, testCustomer.getEmail());
+        verify(uniqueFieldFilters).record(UniqueField.CUSTOMER_PHONE_NUMBER, testCustomer.getPhoneNumber());
+    }
+
+    @Test
+    @DisplayName("Should answer existsByEmail from filter when value is definitely absent")
+    void shouldAnswerExistsByEmailFromFilterWhenValueIsDefinitelyAbsent() {
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.CUSTOMER_EMAIL, "new@example.com")).thenReturn(true);
+
+        boolean result = customerService.existsByEmail("new@example.com");
+
+        assertFalse(result);
+        verify(customerRepository, never()).existsByEmail(anyString());
+    }
+
     @Test
     @DisplayName("Should throw CustomerAlreadyExistsException when email exists")
     void shouldThrowCustomerAlreadyExistsExceptionWhenEmailExists() {
-        when(customerRepository.existsByEmail(testCustomer.getEmail())).thenReturn(true);
+        when(customerRepository.findUniqueFieldConflicts(null, null, testCustomer.getEmail(), testCustomer.getPhoneNumber()))
+                .thenReturn(List.of(conflict("Other", testCustomer.getEmail(), "+5555555555")));
 
-        assertThrows(CustomerAlreadyExistsException.class, () -> customerService.createCustomer(testCustomer));
-        verify(customerRepository).existsByEmail(testCustomer.getEmail());
+        CustomerAlreadyExistsException exception = assertThrows(CustomerAlreadyExistsException.class, () -> customerService.createCustomer(testCustomer));
+        assertTrue(exception.getMessage().contains("email"));
+        verify(customerRepository).findUniqueFieldConflicts(null, null, testCustomer.getEmail(), testCustomer.getPhoneNumber());
         verify(customerRepository, never()).save(any(Customer.class));
     }
 
     @Test
     @DisplayName("Should throw CustomerAlreadyExistsException when phone number exists")
     void shouldThrowCustomerAlreadyExistsExceptionWhenPhoneNumberExists() {
-        when(customerRepository.existsByEmail(testCustomer.getEmail())).thenReturn(false);
-        when(customerRepository.existsByPhoneNumber(testCustomer.getPhoneNumber())).thenReturn(true);
+        when(customerRepository.findUniqueFieldConflicts(null, null, testCustomer.getEmail(), testCustomer.getPhoneNumber()))
+                .thenReturn(List.of(conflict("Other", "other@example.com", testCustomer.getPhoneNumber())));
 
-        assertThrows(CustomerAlreadyExistsException.class, () -> customerService.createCustomer(testCustomer));
-        verify(customerRepository).existsByEmail(testCustomer.getEmail());
-        verify(customerRepository).existsByPhoneNumber(testCustomer.getPhoneNumber());
+        CustomerAlreadyExistsException exception = assertThrows(CustomerAlreadyExistsException.class, () -> customerService.createCustomer(testCustomer));
+        assertTrue(exception.getMessage().contains("phone number"));
+        verify(customerRepository).findUniqueFieldConflicts(null, null, testCustomer.getEmail(), testCustomer.getPhoneNumber());
         verify(customerRepository, never()).save(any(Customer.class));
     }
 
@@ -142,9 +181,8 @@ class CustomerServiceTest {
                 .build();
 
         when(customerRepository.findById(1L)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.existsByName("New Name")).thenReturn(false);
-        when(customerRepository.existsByEmail("new@example.com")).thenReturn(false);
-        when(customerRepository.existsByPhoneNumber("+9999999999")).thenReturn(false);
+        when(customerRepository.findUniqueFieldConflicts(1L, "New Name", "new@example.com", "+9999999999"))
+                .thenReturn(List.of());
         when(customerRepository.save(any(Customer.class))).thenReturn(updatedCustomerData);
 
         Customer result = customerService.updateCustomer(1L, updatedCustomerData);
@@ -172,11 +210,12 @@ class CustomerServiceTest {
                 .build();
 
         when(customerRepository.findById(1L)).thenReturn(Optional.of(existingCustomer));
-        when(customerRepository.existsByName("Existing Name")).thenReturn(true);
+        when(customerRepository.findUniqueFieldConflicts(1L, "Existing Name", null, null))
+                .thenReturn(List.of(conflict("Existing Name", "someone@example.com", "+5555555555")));
 
         assertThrows(CustomerAlreadyExistsException.class, () -> customerService.updateCustomer(1L, updatedCustomerData));
         verify(customerRepository).findById(1L);
-        verify(customerRepository).existsByName("Existing Name");
+        verify(customerRepository).findUniqueFieldConflicts(1L, "Existing Name", null, null);
         verify(customerRepository, never()).save(any(Customer.class));
     }
 
@@ -261,5 +300,37 @@ class CustomerServiceTest {
         verify(customerRepository, never()).existsByName(anyString());
         verify(customerRepository, never()).existsByEmail(anyString());
         verify(customerRepository, never()).existsByPhoneNumber(anyString());
+        verify(customerRepository, never()).findUniqueFieldConflicts(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should map unique constraint violation to CustomerAlreadyExistsException")
+    void shouldMapUniqueConstraintViolationToCustomerAlreadyExistsException() {
+        when(customerRepository.findUniqueFieldConflicts(null, null, testCustomer.getEmail(), testCustomer.getPhoneNumber()))
+                .thenReturn(List.of());
+        when(customerRepository.save(any(Customer.class))).thenThrow(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_CUSTOMERS_EMAIL_INDEX_1 ON PUBLIC.CUSTOMERS(EMAIL NULLS FIRST)\""));
+
+        CustomerAlreadyExistsException exception = assertThrows(CustomerAlreadyExistsException.class, () -> customerService.createCustomer(testCustomer));
+        assertTrue(exception.getMessage().contains("email"));
+    }
+
+    private static NamedUniqueFieldsView conflict(String name, String email, String phoneNumber) {
+        return new NamedUniqueFieldsView() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return phoneNumber;
+            }
+        };
     }
 }
\ No newline at end of file
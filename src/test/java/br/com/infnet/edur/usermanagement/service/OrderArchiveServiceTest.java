@@ -0,0 +1,160 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderArchiveRunDTO;
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderArchiveStatusDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.ArchiveCheckpoint;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.ArchiveCheckpointRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import br.com.infnet.edur.usermanagement.utils.exceptions.OrderArchivedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "orders.archive.chunk-size=2", "orders.archive.enabled=false"})
+@Transactional
+@DisplayName("OrderArchiveService Tests")
+class OrderArchiveServiceTest {
+
+    private static final LocalDateTime OLD_ORDER_DATE = LocalDateTime.of(2020, 3, 15, 10, 0);
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchiveCheckpointRepository archiveCheckpointRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Customer customer;
+    private Product keyboard;
+    private List<Long> oldOrderIds;
+    private Long recentOrderId;
+
+    @BeforeEach
+    void setUp() {
+        customer = persist(Customer.builder().name("Archive Customer").email("archive@example.com").phoneNumber("+5511977770000").build());
+        keyboard = persist(Product.builder().name("Archive Keyboard").unitPrice(new BigDecimal("10.00")).build());
+        Product cable = persist(Product.builder().name("Archive Cable").unitPrice(new BigDecimal("3.00")).build());
+        entityManager.flush();
+
+        oldOrderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = orderService.createOrder(new OrderInputDTO(customer.getId(), List.of(
+                    new OrderItemInputDTO(keyboard.getId(), 1), new OrderItemInputDTO(cable.getId(), 2))));
+            oldOrderIds.add(order.getId());
+        }
+        recentOrderId = orderService.createOrder(new OrderInputDTO(customer.getId(), List.of(new OrderItemInputDTO(keyboard.getId(), 1)))).getId();
+        entityManager.flush();
+
+        jdbcTemplate.update("update orders set order_date = ? where id in (?, ?, ?)", OLD_ORDER_DATE,
+                oldOrderIds.get(0), oldOrderIds.get(1), oldOrderIds.get(2));
+        salesSummaryService.rebuild();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should move old orders to the archive in chunks and serve them transparently")
+    void shouldMoveOldOrdersToTheArchiveInChunksAndServeThemTransparently() {
+        double archivedBefore = meterRegistry.counter(OrderArchiveService.ARCHIVED_METRIC, "table", "orders").count();
+
+        OrderArchiveRunDTO run = orderArchiveService.archiveOrders();
+        entityManager.clear();
+
+        assertEquals(2, run.getChunks());
+        assertEquals(3, run.getOrdersArchived());
+        assertEquals(6, run.getOrderItemsArchived());
+        assertFalse(run.isResumed());
+        assertEquals(3, meterRegistry.counter(OrderArchiveService.ARCHIVED_METRIC, "table", "orders").count() - archivedBefore);
+        assertTrue(orderRepository.findAllById(oldOrderIds).isEmpty());
+        assertTrue(orderRepository.existsById(recentOrderId));
+
+        Order archived = orderService.getOrderById(oldOrderIds.get(0));
+        assertEquals(OLD_ORDER_DATE, archived.getOrderDate());
+        assertEquals("Archive Customer", archived.getCustomer().getName());
+        assertEquals(2, archived.getOrderItems().size());
+        assertEquals("Archive Keyboard", archived.getOrderItems().get(0).getProduct().getName());
+        assertEquals(0, new BigDecimal("16.00").compareTo(archived.getTotalAmount()));
+        assertNotNull(archived.getVersion());
+
+        assertTrue(salesSummaryService.checkConsistency().isConsistent());
+        assertThrows(OrderArchivedException.class, () -> orderService.deleteOrder(oldOrderIds.get(0), null));
+        assertEquals(0, orderArchiveService.archiveOrders().getOrdersArchived());
+    }
+
+    @Test
+    @DisplayName("Should resume an unfinished run from its checkpoint")
+    void shouldResumeAnUnfinishedRunFromItsCheckpoint() {
+        LocalDateTime cutoff = OLD_ORDER_DATE.plusDays(1);
+        archiveCheckpointRepository.save(ArchiveCheckpoint.builder()
+                .jobName(OrderArchiveService.JOB_NAME)
+                .cutoff(cutoff)
+                .lastOrderId(oldOrderIds.get(0))
+                .ordersArchived(1L)
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        OrderArchiveRunDTO run = orderArchiveService.archiveOrders();
+
+        assertTrue(run.isResumed());
+        assertEquals(cutoff, run.getCutoff());
+        assertEquals(2, run.getOrdersArchived());
+        assertTrue(orderRepository.existsById(oldOrderIds.get(0)));
+        ArchiveCheckpoint checkpoint = archiveCheckpointRepository.findById(OrderArchiveService.JOB_NAME).orElseThrow();
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(oldOrderIds.get(2), checkpoint.getLastOrderId());
+        assertEquals(3L, checkpoint.getOrdersArchived());
+    }
+
+    @Test
+    @DisplayName("Should report hot and archive table sizes")
+    void shouldReportHotAndArchiveTableSizes() {
+        long hotOrders = orderArchiveService.getStatus().getTableRows().get("orders");
+
+        orderArchiveService.archiveOrders();
+        OrderArchiveStatusDTO status = orderArchiveService.getStatus();
+
+        assertEquals(hotOrders - 3, status.getTableRows().get("orders"));
+        assertTrue(status.getTableRows().get("archived_order_items") >= 6);
+        assertEquals(3, status.getLastRun().getOrdersArchived());
+        assertEquals(hotOrders - 3, meterRegistry.get(OrderArchiveService.TABLE_ROWS_METRIC).tag("table", "orders").gauge().value());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.concurrency.ConflictRetryAspect;
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.CustomerRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductRepository;
+import br.com.infnet.edur.usermanagement.utils.exceptions.OrderVersionMismatchException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "conflict-retry.max-attempts=200",
+        "conflict-retry.initial-backoff=2ms",
+        "conflict-retry.max-backoff=20ms"
+})
+@DisplayName("Order Concurrency Stress Tests")
+class OrderConcurrencyStressTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 5;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderItemService orderItemService;
+
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Customer customer;
+    private Product keyboard;
+    private Product cable;
+    private Order order;
+    private final List<Long> createdOrderIds = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Stress Customer")
+                .email("stress@example.com")
+                .phoneNumber("+5511988887777")
+                .build());
+        keyboard = productRepository.save(Product.builder().name("Stress Keyboard").unitPrice(new BigDecimal("10.00")).build());
+        cable = productRepository.save(Product.builder().name("Stress Cable").unitPrice(new BigDecimal("3.00")).build());
+        order = orderService.createOrder(new OrderInputDTO(customer.getId(), List.of(
+                new OrderItemInputDTO(keyboard.getId(), 1),
+                new OrderItemInputDTO(cable.getId(), 1))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdOrderIds.forEach(id -> orderService.deleteOrder(id, null));
+        orderRepository.findById(order.getId()).ifPresent(existing -> orderService.deleteOrder(existing.getId(), null));
+        productRepository.delete(keyboard);
+        productRepository.delete(cable);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("Should not lose read-modify-write increments guarded by the order version")
+    void shouldNotLoseReadModifyWriteIncrementsGuardedByTheOrderVersion() throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(() -> {
+            while (true) {
+                Order current = orderService.getOrderById(order.getId());
+                int quantity = quantityOf(current, keyboard);
+                OrderInputDTO input = new OrderInputDTO(customer.getId(), List.of(
+                        new OrderItemInputDTO(keyboard.getId(), quantity + 1),
+                        new OrderItemInputDTO(cable.getId(), quantityOf(current, cable))));
+                try {
+                    orderService.updateOrder(order.getId(), input, Set.of(current.getVersion()));
+                    return null;
+                } catch (OrderVersionMismatchException | ConcurrencyFailureException ex) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        Order result = orderService.getOrderById(order.getId());
+        assertEquals(1 + THREADS * OPERATIONS_PER_THREAD, quantityOf(result, keyboard));
+        assertTrue(rejected.get() > 0, "expected stale writes to be rejected");
+        assertTotalsAndSummaryConsistent(result);
+    }
+
+    @Test
+    @DisplayName("Should keep order totals exact under concurrent item edits retried internally")
+    void shouldKeepOrderTotalsExactUnderConcurrentItemEditsRetriedInternally() throws Exception {
+        List<Long> itemIds = orderService.getOrderById(order.getId()).getOrderItems().stream().map(OrderItem::getId).toList();
+        double retriesBefore = retries();
+
+        runConcurrently(() -> {
+            Long itemId = itemIds.get(ThreadLocalRandom.current().nextInt(itemIds.size()));
+            Product product = ThreadLocalRandom.current().nextBoolean() ? keyboard : cable;
+            orderItemService.updateOrderItem(itemId, new OrderItemInputDTO(product.getId(), ThreadLocalRandom.current().nextInt(1, 10)));
+            return null;
+        });
+
+        assertTrue(retries() > retriesBefore, "expected conflicting edits to be retried");
+        assertTotalsAndSummaryConsistent(orderService.getOrderById(order.getId()));
+    }
+
+    @Test
+    @DisplayName("Should create concurrent orders listing the same products in opposite orders")
+    void shouldCreateConcurrentOrdersListingTheSameProductsInOppositeOrders() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+
+        runConcurrently(() -> {
+            OrderItemInputDTO keyboardLine = new OrderItemInputDTO(keyboard.getId(), 1);
+            OrderItemInputDTO cableLine = new OrderItemInputDTO(cable.getId(), 1);
+            List<OrderItemInputDTO> lines = sequence.getAndIncrement() % 2 == 0
+                    ? List.of(keyboardLine, cableLine)
+                    : List.of(cableLine, keyboardLine);
+            createdOrderIds.add(orderService.createOrder(new OrderInputDTO(customer.getId(), lines)).getId());
+            return null;
+        });
+
+        assertEquals(THREADS * OPERATIONS_PER_THREAD, createdOrderIds.size());
+        assertTrue(salesSummaryService.checkConsistency().isConsistent());
+    }
+
+    @Test
+    @DisplayName("Should lock the orders selected for an archive chunk against concurrent updates")
+    void shouldLockTheOrdersSelectedForAnArchiveChunkAgainstConcurrentUpdates() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> chunk = orderRepository.findIdsToArchive(LocalDateTime.now().plusDays(1), order.getId() - 1, Limit.of(1));
+                assertEquals(List.of(order.getId()), chunk);
+
+                Future<Integer> update = executor.submit(() ->
+                        jdbcTemplate.update("update orders set version = version + 1 where id = ?", order.getId()));
+                ExecutionException blocked = assertThrows(ExecutionException.class, () -> update.get(1, TimeUnit.MINUTES));
+                assertInstanceOf(QueryTimeoutException.class, blocked.getCause());
+                status.setRollbackOnly();
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should share orders detached from the loading request's entity manager")
+    void shouldShareOrdersDetachedFromTheLoadingRequestsEntityManager() {
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+        try {
+            Order loaded = orderService.getOrderById(order.getId());
+
+            assertFalse(requestEntityManager.contains(loaded));
+            assertFalse(requestEntityManager.contains(loaded.getCustomer()));
+            assertEquals(2, loaded.getOrderItems().size());
+            loaded.getOrderItems().forEach(item -> {
+                assertFalse(requestEntityManager.contains(item));
+                assertFalse(requestEntityManager.contains(item.getProduct()));
+            });
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+    }
+
+    private void runConcurrently(Callable<Void> operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        operation.call();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertTotalsAndSummaryConsistent(Order current) {
+        BigDecimal itemsTotal = current.getOrderItems().stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, itemsTotal.compareTo(current.getTotalAmount()));
+        assertTrue(salesSummaryService.checkConsistency().isConsistent());
+    }
+
+    private int quantityOf(Order current, Product product) {
+        return current.getOrderItems().stream()
+                .filter(item -> item.getProduct().getId().equals(product.getId()))
+                .mapToInt(OrderItem::getQuantity)
+                .sum();
+    }
+
+    private double retries() {
+        return meterRegistry.find(ConflictRetryAspect.METRIC_NAME).tag("outcome", "retried").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
\ No newline at end of file
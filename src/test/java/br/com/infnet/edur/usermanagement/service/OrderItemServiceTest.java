@@ -5,6 +5,7 @@ import br.com.infnet.edur.usermanagement.model.Order;
 import br.com.infnet.edur.usermanagement.model.OrderItem;
 import br.com.infnet.edur.usermanagement.model.Product;
 import br.com.infnet.edur.usermanagement.repository.OrderItemRepository;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
 import br.com.infnet.edur.usermanagement.utils.exceptions.OrderValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,10 +18,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -34,6 +38,12 @@ class OrderItemServiceTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private SalesSummaryService salesSummaryService;
+
     @InjectMocks
     private OrderItemService orderItemService;
 
@@ -116,6 +126,7 @@ class OrderItemServiceTest {
         assertEquals(testOrder.getId(), result.getOrder().getId());
         verify(productService).getProductById(1L);
         verify(orderItemRepository).save(any(OrderItem.class));
+        verify(orderRepository).adjustTotalAmount(1L, new BigDecimal("20.00"));
     }
 
     @Test
@@ -129,26 +140,20 @@ class OrderItemServiceTest {
 
         OrderItemInputDTO updateDTO = new OrderItemInputDTO(2L, 3);
 
-        OrderItem updatedOrderItem = OrderItem.builder()
-                .id(1L)
-                .product(newProduct)
-                .quantity(3)
-                .unitPrice(new BigDecimal("15.00"))
-                .order(testOrder)
-                .build();
 
         when(orderItemRepository.findById(1L)).thenReturn(Optional.of(testOrderItem));
         when(productService.getProductById(2L)).thenReturn(newProduct);
-        when(orderItemRepository.save(any(OrderItem.class))).thenReturn(updatedOrderItem);
 
         OrderItem result = orderItemService.updateOrderItem(1L, updateDTO);
 
+        assertSame(testOrderItem, result);
         assertEquals(newProduct.getId(), result.getProduct().getId());
         assertEquals(3, result.getQuantity());
         assertEquals(new BigDecimal("15.00"), result.getUnitPrice());
         verify(orderItemRepository).findById(1L);
         verify(productService).getProductById(2L);
-        verify(orderItemRepository).save(any(OrderItem.class));
+        verify(orderItemRepository, never()).save(any(OrderItem.class));
+        verify(orderRepository).adjustTotalAmount(1L, new BigDecimal("25.00"));
     }
 
     @Test
@@ -160,6 +165,7 @@ class OrderItemServiceTest {
 
         verify(orderItemRepository).findById(1L);
         verify(orderItemRepository).delete(testOrderItem);
+        verify(orderRepository).adjustTotalAmount(1L, new BigDecimal("-20.00"));
     }
 
     @Test
@@ -203,33 +209,36 @@ class OrderItemServiceTest {
                 .order(testOrder)
                 .build();
 
-        when(productService.getProductById(1L)).thenReturn(testProduct);
-        when(productService.getProductById(2L)).thenReturn(product2);
-        when(orderItemRepository.save(any(OrderItem.class)))
-                .thenReturn(orderItem1)
-                .thenReturn(orderItem2);
+        when(productService.getProductsByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, testProduct, 2L, product2));
+        when(orderItemRepository.saveAll(anyList())).thenReturn(Arrays.asList(orderItem1, orderItem2));
 
         List<OrderItem> result = orderItemService.createOrderItemsForOrder(testOrder, itemDTOs);
 
         assertEquals(2, result.size());
-        verify(productService).getProductById(1L);
-        verify(productService).getProductById(2L);
-        verify(orderItemRepository, times(2)).save(any(OrderItem.class));
+        verify(productService).getProductsByIds(Set.of(1L, 2L));
+        verify(productService, never()).getProductById(anyLong());
+        verify(orderItemRepository).saveAll(anyList());
+        verify(orderItemRepository, never()).save(any(OrderItem.class));
     }
 
     @Test
-    @DisplayName("Should add item to order successfully")
-    void shouldAddItemToOrderSuccessfully() {
-        when(productService.getProductById(1L)).thenReturn(testProduct);
-        when(orderItemRepository.save(any(OrderItem.class))).thenReturn(testOrderItem);
+    @DisplayName("Should look up each distinct product once when creating order items")
+    void shouldLookUpEachDistinctProductOnceWhenCreatingOrderItems() {
+        List<OrderItemInputDTO> itemDTOs = Arrays.asList(
+                new OrderItemInputDTO(1L, 2),
+                new OrderItemInputDTO(1L, 5));
 
-        OrderItem result = orderItemService.addItemToOrder(1L, testOrderItemInputDTO);
+        when(productService.getProductsByIds(Set.of(1L))).thenReturn(Map.of(1L, testProduct));
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
-        assertEquals(testProduct.getId(), result.getProduct().getId());
-        assertEquals(2, result.getQuantity());
-        assertEquals(testProduct.getUnitPrice(), result.getUnitPrice());
-        verify(productService).getProductById(1L);
-        verify(orderItemRepository).save(any(OrderItem.class));
+        List<OrderItem> result = orderItemService.createOrderItemsForOrder(testOrder, itemDTOs);
+
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).getQuantity());
+        assertEquals(5, result.get(1).getQuantity());
+        assertEquals(testProduct.getUnitPrice(), result.get(1).getUnitPrice());
+        assertSame(testOrder, result.get(0).getOrder());
+        verify(productService).getProductsByIds(Set.of(1L));
     }
 
     @Test
@@ -265,13 +274,69 @@ class OrderItemServiceTest {
     void shouldPreserveExistingOrderWhenUpdatingOrderItem() {
         when(orderItemRepository.findById(1L)).thenReturn(Optional.of(testOrderItem));
         when(productService.getProductById(1L)).thenReturn(testProduct);
-        when(orderItemRepository.save(any(OrderItem.class))).thenReturn(testOrderItem);
 
         OrderItem result = orderItemService.updateOrderItem(1L, testOrderItemInputDTO);
 
-        assertEquals(testOrder.getId(), result.getOrder().getId());
+        assertSame(testOrder, result.getOrder());
         verify(orderItemRepository).findById(1L);
         verify(productService).getProductById(1L);
-        verify(orderItemRepository).save(any(OrderItem.class));
+    }
+
+    @Test
+    @DisplayName("Should only touch changed lines when merging order items")
+    void shouldOnlyTouchChangedLinesWhenMergingOrderItems() {
+        Product cable = Product.builder().id(2L).name("Cable").unitPrice(new BigDecimal("3.00")).build();
+        Product mouse = Product.builder().id(3L).name("Mouse").unitPrice(new BigDecimal("7.00")).build();
+        Product monitor = Product.builder().id(4L).name("Monitor").unitPrice(new BigDecimal("90.00")).build();
+        OrderItem cableItem = OrderItem.builder().id(2L).product(cable).quantity(1).unitPrice(new BigDecimal("3.00")).order(testOrder).build();
+        OrderItem mouseItem = OrderItem.builder().id(3L).product(mouse).quantity(1).unitPrice(new BigDecimal("7.00")).order(testOrder).build();
+        testOrder.getOrderItems().addAll(List.of(testOrderItem, cableItem, mouseItem));
+
+        when(productService.getProductsByIds(Set.of(1L, 2L, 4L))).thenReturn(Map.of(1L, testProduct, 2L, cable, 4L, monitor));
+        when(orderItemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        boolean changed = orderItemService.mergeOrderItems(testOrder, Map.of(1L, 2, 2L, 5, 4L, 1), true);
+
+        assertTrue(changed);
+        assertEquals(5, cableItem.getQuantity());
+        assertEquals(List.of(1L, 2L, 4L), testOrder.getOrderItems().stream().map(item -> item.getProduct().getId()).toList());
+        verify(orderItemRepository).deleteAll(List.of(mouseItem));
+        verify(orderItemRepository).saveAll(argThat(items -> items.iterator().hasNext()));
+        verify(orderItemRepository, never()).save(any(OrderItem.class));
+        verify(salesSummaryService).recordItemsChanged(eq(testOrder),
+                argThat(items -> items.size() == 2 && items.stream().mapToInt(OrderItem::getQuantity).sum() == 2),
+                argThat(items -> items.size() == 2 && items.stream().mapToInt(OrderItem::getQuantity).sum() == 6));
+    }
+
+    @Test
+    @DisplayName("Should keep unlisted lines and drop zero quantities when patching order items")
+    void shouldKeepUnlistedLinesAndDropZeroQuantitiesWhenPatchingOrderItems() {
+        Product cable = Product.builder().id(2L).name("Cable").unitPrice(new BigDecimal("3.00")).build();
+        OrderItem cableItem = OrderItem.builder().id(2L).product(cable).quantity(1).unitPrice(new BigDecimal("3.00")).order(testOrder).build();
+        testOrder.getOrderItems().addAll(List.of(testOrderItem, cableItem));
+
+        when(productService.getProductsByIds(Set.of())).thenReturn(Map.of());
+
+        boolean changed = orderItemService.mergeOrderItems(testOrder, Map.of(2L, 0), false);
+
+        assertTrue(changed);
+        assertEquals(List.of(testOrderItem), testOrder.getOrderItems());
+        verify(orderItemRepository).deleteAll(List.of(cableItem));
+        verify(orderItemRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should report no change when merged quantities match the order")
+    void shouldReportNoChangeWhenMergedQuantitiesMatchTheOrder() {
+        testOrder.getOrderItems().add(testOrderItem);
+
+        when(productService.getProductsByIds(Set.of(1L))).thenReturn(Map.of(1L, testProduct));
+
+        boolean changed = orderItemService.mergeOrderItems(testOrder, Map.of(1L, 2), true);
+
+        assertFalse(changed);
+        verify(orderItemRepository, never()).deleteAll(anyList());
+        verify(orderItemRepository, never()).saveAll(anyList());
+        verify(salesSummaryService).recordItemsChanged(testOrder, List.of(), List.of());
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.OrderPurgeProgressDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.repository.OrderRepository;
+import br.com.infnet.edur.usermanagement.utils.exceptions.CustomerNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "orders.purge.chunk-size=2"})
+@Transactional
+@DisplayName("OrderPurgeService Tests")
+class OrderPurgeServiceTest {
+
+    private static final LocalDate OLD_ORDER_DATE = LocalDate.of(2020, 3, 15);
+
+    @Autowired
+    private OrderPurgeService orderPurgeService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Customer alice;
+    private Customer bob;
+    private List<Long> aliceOrderIds;
+    private Long bobOrderId;
+
+    @BeforeEach
+    void setUp() {
+        alice = persist(Customer.builder().name("Alice").email("alice.purge@example.com").phoneNumber("+5511955550000").build());
+        bob = persist(Customer.builder().name("Bob").email("bob.purge@example.com").phoneNumber("+5511966660000").build());
+        Product keyboard = persist(Product.builder().name("Purge Keyboard").unitPrice(new BigDecimal("10.00")).build());
+        Product cable = persist(Product.builder().name("Purge Cable").unitPrice(new BigDecimal("3.00")).build());
+        entityManager.flush();
+
+        aliceOrderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Order order = orderService.createOrder(new OrderInputDTO(alice.getId(), List.of(
+                    new OrderItemInputDTO(keyboard.getId(), 1), new OrderItemInputDTO(cable.getId(), 2))));
+            aliceOrderIds.add(order.getId());
+        }
+        bobOrderId = orderService.createOrder(new OrderInputDTO(bob.getId(), List.of(new OrderItemInputDTO(keyboard.getId(), 3)))).getId();
+        entityManager.flush();
+
+        jdbcTemplate.update("update orders set order_date = ? where id in (?, ?, ?, ?)", OLD_ORDER_DATE.atStartOfDay(),
+                aliceOrderIds.get(0), aliceOrderIds.get(1), aliceOrderIds.get(2), aliceOrderIds.get(3));
+        salesSummaryService.rebuild();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should purge orders in a date range chunk by chunk")
+    void shouldPurgeOrdersInADateRangeChunkByChunk() {
+        List<OrderPurgeProgressDTO> progress = new ArrayList<>();
+
+        orderPurgeService.purgeByOrderDate(null, OLD_ORDER_DATE, progress::add);
+
+        assertEquals(3, progress.size());
+        assertProgress(progress.get(0), 1, 2, 4, false);
+        assertProgress(progress.get(1), 2, 4, 8, false);
+        assertProgress(progress.get(2), 2, 4, 8, true);
+        assertEquals(List.of(aliceOrderIds.get(4), bobOrderId), remainingOrderIds());
+        assertTrue(salesSummaryService.checkConsistency().isConsistent());
+    }
+
+    @Test
+    @DisplayName("Should purge every order of a customer and keep other customers")
+    void shouldPurgeEveryOrderOfACustomerAndKeepOtherCustomers() {
+        List<OrderPurgeProgressDTO> progress = new ArrayList<>();
+
+        orderPurgeService.purgeByCustomer(alice.getId(), progress::add);
+
+        assertEquals(3, progress.size());
+        assertProgress(progress.get(2), 3, 5, 10, true);
+        assertEquals(List.of(bobOrderId), remainingOrderIds());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from order_items i join orders o on o.id = i.order_id where o.customer_id = ?", Integer.class, alice.getId()));
+        assertTrue(salesSummaryService.checkConsistency().isConsistent());
+    }
+
+    @Test
+    @DisplayName("Should report completion when nothing matches")
+    void shouldReportCompletionWhenNothingMatches() {
+        List<OrderPurgeProgressDTO> progress = new ArrayList<>();
+
+        orderPurgeService.purgeByOrderDate(LocalDate.of(2001, 1, 1), LocalDate.of(2001, 12, 31), progress::add);
+
+        assertEquals(1, progress.size());
+        assertProgress(progress.get(0), 0, 0, 0, true);
+        assertEquals(6, remainingOrderIds().size());
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted range and an unknown customer")
+    void shouldRejectAnInvertedRangeAndAnUnknownCustomer() {
+        assertThrows(IllegalArgumentException.class,
+                () -> orderPurgeService.purgeByOrderDate(LocalDate.of(2021, 1, 1), OLD_ORDER_DATE, progress -> fail()));
+        assertThrows(CustomerNotFoundException.class, () -> orderPurgeService.purgeByCustomer(-1L, progress -> fail()));
+    }
+
+    private List<Long> remainingOrderIds() {
+        List<Long> created = new ArrayList<>(aliceOrderIds);
+        created.add(bobOrderId);
+        return orderRepository.findAllById(created).stream().map(Order::getId).sorted().toList();
+    }
+
+    private void assertProgress(OrderPurgeProgressDTO progress, int chunks, long orders, long orderItems, boolean completed) {
+        assertEquals(chunks, progress.getChunks());
+        assertEquals(orders, progress.getOrdersDeleted());
+        assertEquals(orderItems, progress.getOrderItemsDeleted());
+        assertEquals(completed, progress.isCompleted());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
\ No newline at end of file
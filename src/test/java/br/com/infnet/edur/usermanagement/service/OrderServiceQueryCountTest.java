@@ -0,0 +1,155 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@DisplayName("OrderService Query Count Tests")
+class OrderServiceQueryCountTest {
+
+    private static final int ORDER_COUNT = 10;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Customer customer;
+    private Order firstOrder;
+
+    @BeforeEach
+    void setUp() {
+        customer = Customer.builder()
+                .name("Query Count Customer")
+                .email("querycount@example.com")
+                .phoneNumber("+1999999999")
+                .build();
+        entityManager.persist(customer);
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder()
+                    .customer(customer)
+                    .orderDate(LocalDateTime.now())
+                    .build();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Product product = Product.builder()
+                        .name("Query Count Product " + i + "-" + j)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build();
+                entityManager.persist(product);
+                order.addOrderItem(OrderItem.builder()
+                        .product(product)
+                        .quantity(1)
+                        .unitPrice(product.getUnitPrice())
+                        .build());
+            }
+            entityManager.persist(order);
+            if (firstOrder == null) {
+                firstOrder = order;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load orders page with items and products in a fixed number of statements")
+    void shouldLoadOrdersPageWithItemsAndProductsInFixedNumberOfStatements() {
+        CursorPage<Order> page = orderService.getOrdersPage(null, ORDER_COUNT);
+
+        assertEquals(ORDER_COUNT, page.getItems().size());
+        page.getItems().forEach(this::touchGraph);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should load customer orders page with items and products in a fixed number of statements")
+    void shouldLoadCustomerOrdersPageWithItemsAndProductsInFixedNumberOfStatements() {
+        CursorPage<Order> page = orderService.getOrdersPageByCustomerId(customer.getId(), null, ORDER_COUNT);
+
+        assertEquals(ORDER_COUNT, page.getItems().size());
+        page.getItems().forEach(this::touchGraph);
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should write only the changed order lines when updating an order")
+    void shouldWriteOnlyTheChangedOrderLinesWhenUpdatingAnOrder() {
+        List<Long> productIds = firstOrder.getOrderItems().stream().map(item -> item.getProduct().getId()).toList();
+        Product replacement = Product.builder()
+                .name("Query Count Replacement")
+                .unitPrice(new BigDecimal("4.00"))
+                .build();
+        entityManager.persist(replacement);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Order updated = orderService.updateOrder(firstOrder.getId(), new OrderInputDTO(customer.getId(), List.of(
+                new OrderItemInputDTO(productIds.get(0), 1),
+                new OrderItemInputDTO(productIds.get(1), 3),
+                new OrderItemInputDTO(replacement.getId(), 2))), null);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertEquals(0, new BigDecimal("48.00").compareTo(updated.getTotalAmount()));
+    }
+
+    @Test
+    @DisplayName("Should write nothing when an order update changes no lines")
+    void shouldWriteNothingWhenAnOrderUpdateChangesNoLines() {
+        List<OrderItemInputDTO> sameItems = firstOrder.getOrderItems().stream()
+                .map(item -> new OrderItemInputDTO(item.getProduct().getId(), item.getQuantity()))
+                .toList();
+
+        orderService.updateOrder(firstOrder.getId(), new OrderInputDTO(customer.getId(), sameItems), null);
+        entityManager.flush();
+
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+    }
+
+    private void touchGraph(Order order) {
+        assertNotNull(order.getCustomer().getName());
+        assertEquals(ITEMS_PER_ORDER, order.getOrderItems().size());
+        order.getOrderItems().forEach(item -> assertNotNull(item.getProduct().getName()));
+        assertEquals(0, new BigDecimal("30.00").compareTo(order.getTotalAmount()));
+    }
+}
\ No newline at end of file
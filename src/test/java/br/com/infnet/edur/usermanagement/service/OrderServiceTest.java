@@ -1,14 +1,24 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.SingleFlight;
 import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
 import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemPatchDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderPatchDTO;
 import br.com.infnet.edur.usermanagement.model.Customer;
 import br.com.infnet.edur.usermanagement.model.Order;
 import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
 import br.com.infnet.edur.usermanagement.repository.OrderRepository;
 import br.com.infnet.edur.usermanagement.repository.OrderItemRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.OrderTagView;
+import br.com.infnet.edur.usermanagement.utils.etag.OrderEntityTags;
+import br.com.infnet.edur.usermanagement.utils.exceptions.OrderArchivedException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.OrderNotFoundException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.OrderValidationException;
+import br.com.infnet.edur.usermanagement.utils.exceptions.OrderVersionMismatchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +26,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +58,15 @@ class OrderServiceTest {
     @Mock
     private OrderItemService orderItemService;
 
+    @Mock
+    private SalesSummaryService salesSummaryService;
+
+    @Mock
+    private OrderArchiveService orderArchiveService;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -53,6 +76,8 @@ class OrderServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(orderService, "singleFlight", new SingleFlight(new SimpleMeterRegistry()));
+
         testCustomer = Customer.builder()
                 .id(1L)
                 .name("Test Customer")
@@ -96,6 +121,8 @@ class OrderServiceTest {
         assertEquals(testOrder.getId(), result.getId());
         assertEquals(testOrder.getCustomer().getId(), result.getCustomer().getId());
         verify(orderRepository).findById(1L);
+        verify(entityManager).detach(testOrder);
+        verify(entityManager).detach(testCustomer);
     }
 
     @Test
@@ -126,7 +153,7 @@ class OrderServiceTest {
     @Test
     @DisplayName("Should create order successfully")
     void shouldCreateOrderSuccessfully() {
-        OrderItem testOrderItem = OrderItem.builder().id(1L).build();
+        OrderItem testOrderItem = OrderItem.builder().id(1L).quantity(2).unitPrice(new BigDecimal("10.00")).build();
         List<OrderItem> orderItems = Arrays.asList(testOrderItem);
 
         when(customerService.getCustomerById(1L)).thenReturn(testCustomer);
@@ -137,9 +164,11 @@ class OrderServiceTest {
 
         assertNotNull(result);
         assertEquals(testCustomer.getId(), result.getCustomer().getId());
+        assertEquals(new BigDecimal("20.00"), result.getTotalAmount());
         verify(customerService).getCustomerById(1L);
         verify(orderRepository).save(any(Order.class));
         verify(orderItemService).createOrderItemsForOrder(any(Order.class), anyList());
+        verify(salesSummaryService).recordOrderCreated(any(Order.class));
     }
 
     @Test
@@ -151,28 +180,174 @@ class OrderServiceTest {
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    @Test
+    @DisplayName("Should fall back to the archive when order is not in the hot table")
+    void shouldFallBackToTheArchiveWhenOrderIsNotInTheHotTable() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderArchiveService.findArchivedOrder(1L)).thenReturn(Optional.of(testOrder));
+
+        assertSame(testOrder, orderService.getOrderById(1L));
+    }
+
+    @Test
+    @DisplayName("Should build the order tag from a projection without loading the order")
+    void shouldBuildTheOrderTagFromAProjectionWithoutLoadingTheOrder() {
+        Product product = Product.builder().id(7L).name("Test Product").unitPrice(new BigDecimal("10.00")).build();
+        testOrder.setVersion(5L);
+        testOrder.getOrderItems().add(OrderItem.builder().id(3L).version(0L).product(product).quantity(2)
+                .unitPrice(new BigDecimal("10.00")).build());
+        OrderTagView row = mock(OrderTagView.class);
+        when(row.getVersion()).thenReturn(5L);
+        when(row.getCustomerId()).thenReturn(1L);
+        when(row.getCustomerName()).thenReturn("Test Customer");
+        when(row.getCustomerEmail()).thenReturn("customer@example.com");
+        when(row.getCustomerPhoneNumber()).thenReturn("+1234567890");
+        when(row.getItemId()).thenReturn(3L);
+        when(row.getItemVersion()).thenReturn(0L);
+        when(row.getQuantity()).thenReturn(2);
+        when(row.getUnitPrice()).thenReturn(new BigDecimal("10.00"));
+        when(row.getProductId()).thenReturn(7L);
+        when(row.getProductName()).thenReturn("Test Product");
+        when(row.getProductUnitPrice()).thenReturn(new BigDecimal("10.00"));
+        when(orderRepository.findTagViewsById(1L)).thenReturn(List.of(row));
+
+        String tag = orderService.getOrderTag(1L);
+
+        assertEquals(OrderEntityTags.of(testOrder), tag);
+        assertTrue(tag.startsWith("\"5."));
+        verify(orderRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should build the order tag from the archive when the order is not in the hot table")
+    void shouldBuildTheOrderTagFromTheArchiveWhenTheOrderIsNotInTheHotTable() {
+        testOrder.setVersion(3L);
+        when(orderRepository.findTagViewsById(1L)).thenReturn(List.of());
+        when(orderArchiveService.findArchivedOrder(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findTagViewsById(999L)).thenReturn(List.of());
+        when(orderArchiveService.findArchivedOrder(999L)).thenReturn(Optional.empty());
+
+        assertEquals(OrderEntityTags.of(testOrder), orderService.getOrderTag(1L));
+        assertThrows(OrderNotFoundException.class, () -> orderService.getOrderTag(999L));
+    }
+
+    @Test
+    @DisplayName("Should change the order tag when the customer or a product changes")
+    void shouldChangeTheOrderTagWhenTheCustomerOrAProductChanges() {
+        Product product = Product.builder().id(7L).name("Test Product").unitPrice(new BigDecimal("10.00")).build();
+        testOrder.setVersion(1L);
+        testOrder.getOrderItems().add(OrderItem.builder().id(3L).product(product).quantity(2)
+                .unitPrice(new BigDecimal("10.00")).build());
+        String original = OrderEntityTags.of(testOrder);
+
+        testOrder.setCustomer(Customer.builder().id(1L).name("Renamed Customer")
+                .email("customer@example.com").phoneNumber("+1234567890").build());
+        String renamedCustomer = OrderEntityTags.of(testOrder);
+        testOrder.getOrderItems().get(0).setProduct(Product.builder().id(7L).name("Renamed Product")
+                .unitPrice(new BigDecimal("10.00")).build());
+        String renamedProduct = OrderEntityTags.of(testOrder);
+
+        assertNotEquals(original, renamedCustomer);
+        assertNotEquals(renamedCustomer, renamedProduct);
+        assertTrue(renamedProduct.startsWith("\"1."));
+    }
+
+    @Test
+    @DisplayName("Should reject changes to archived orders")
+    void shouldRejectChangesToArchivedOrders() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderArchiveService.isArchived(1L)).thenReturn(true);
+
+        assertThrows(OrderArchivedException.class, () -> orderService.updateOrder(1L, testOrderInputDTO, null));
+        assertThrows(OrderArchivedException.class, () -> orderService.deleteOrder(1L, null));
+        verifyNoInteractions(orderItemService, salesSummaryService);
+    }
+
     @Test
     @DisplayName("Should update order successfully")
     void shouldUpdateOrderSuccessfully() {
-        OrderItem existingOrderItem = OrderItem.builder().id(1L).build();
+        OrderItem existingOrderItem = OrderItem.builder().id(1L).quantity(3).unitPrice(new BigDecimal("5.00")).build();
         testOrder.getOrderItems().add(existingOrderItem);
 
-        OrderItem newOrderItem = OrderItem.builder().id(2L).build();
-        List<OrderItem> newOrderItems = Arrays.asList(newOrderItem);
-
         when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
         when(customerService.getCustomerById(1L)).thenReturn(testCustomer);
-        when(orderItemService.createOrderItemsForOrder(any(Order.class), anyList())).thenReturn(newOrderItems);
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderItemService.mergeOrderItems(testOrder, Map.of(1L, 2), true)).thenReturn(true);
 
-        Order result = orderService.updateOrder(1L, testOrderInputDTO);
+        Order result = orderService.updateOrder(1L, testOrderInputDTO, null);
 
-        assertNotNull(result);
+        assertSame(testOrder, result);
+        assertEquals(new BigDecimal("15.00"), result.getTotalAmount());
         verify(orderRepository).findById(1L);
         verify(customerService).getCustomerById(1L);
-        verify(orderItemRepository).deleteAll(anyList());
-        verify(orderItemService).createOrderItemsForOrder(any(Order.class), anyList());
-        verify(orderRepository).save(any(Order.class));
+        verify(orderItemService).mergeOrderItems(testOrder, Map.of(1L, 2), true);
+        verify(orderItemRepository, never()).deleteAll(anyList());
+        verifyNoInteractions(salesSummaryService);
+    }
+
+    @Test
+    @DisplayName("Should sum duplicate products when updating order")
+    void shouldSumDuplicateProductsWhenUpdatingOrder() {
+        testOrder.getOrderItems().add(OrderItem.builder().id(1L).quantity(5).unitPrice(new BigDecimal("1.00")).build());
+        OrderInputDTO duplicatedInputDTO = new OrderInputDTO(1L, List.of(new OrderItemInputDTO(1L, 2), new OrderItemInputDTO(1L, 3)));
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(customerService.getCustomerById(1L)).thenReturn(testCustomer);
+
+        orderService.updateOrder(1L, duplicatedInputDTO, null);
+
+        verify(orderItemService).mergeOrderItems(testOrder, Map.of(1L, 5), true);
+    }
+
+    @Test
+    @DisplayName("Should move sales summary to the new customer when order customer changes")
+    void shouldMoveSalesSummaryToTheNewCustomerWhenOrderCustomerChanges() {
+        Customer otherCustomer = Customer.builder().id(2L).name("Other Customer").build();
+        testOrder.getOrderItems().add(OrderItem.builder().id(1L).quantity(1).unitPrice(new BigDecimal("5.00")).build());
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(customerService.getCustomerById(2L)).thenReturn(otherCustomer);
+
+        Order result = orderService.patchOrder(1L, new OrderPatchDTO(2L, null), null);
+
+        assertSame(otherCustomer, result.getCustomer());
+        verify(salesSummaryService).recordOrderDeleted(testOrder);
+        verify(salesSummaryService).recordOrderCreated(testOrder);
+        verify(orderItemService).mergeOrderItems(testOrder, Map.of(), false);
+    }
+
+    @Test
+    @DisplayName("Should patch only the listed order items")
+    void shouldPatchOnlyTheListedOrderItems() {
+        testOrder.getOrderItems().add(OrderItem.builder().id(1L).quantity(1).unitPrice(new BigDecimal("5.00")).build());
+        OrderPatchDTO orderPatchDTO = new OrderPatchDTO(null, List.of(new OrderItemPatchDTO(1L, 4), new OrderItemPatchDTO(2L, 0)));
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        orderService.patchOrder(1L, orderPatchDTO, null);
+
+        verify(orderItemService).mergeOrderItems(testOrder, Map.of(1L, 4, 2L, 0), false);
+        verifyNoInteractions(customerService, salesSummaryService);
+    }
+
+    @Test
+    @DisplayName("Should reject order patch that removes every item")
+    void shouldRejectOrderPatchThatRemovesEveryItem() {
+        OrderPatchDTO orderPatchDTO = new OrderPatchDTO(null, List.of(new OrderItemPatchDTO(1L, 0)));
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        assertThrows(OrderValidationException.class, () -> orderService.patchOrder(1L, orderPatchDTO, null));
+    }
+
+    @Test
+    @DisplayName("Should reject order update when expected version is stale")
+    void shouldRejectOrderUpdateWhenExpectedVersionIsStale() {
+        testOrder.setVersion(3L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        assertThrows(OrderVersionMismatchException.class, () -> orderService.updateOrder(1L, testOrderInputDTO, Set.of(2L)));
+        verify(orderItemRepository, never()).deleteAll(anyList());
+        verifyNoInteractions(salesSummaryService, orderItemService);
     }
 
     @Test
@@ -182,9 +357,9 @@ class OrderServiceTest {
 
         when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
 
-        assertThrows(OrderValidationException.class, () -> orderService.updateOrder(1L, emptyOrderInputDTO));
+        assertThrows(OrderValidationException.class, () -> orderService.updateOrder(1L, emptyOrderInputDTO, null));
         verify(orderRepository).findById(1L);
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderItemRepository, never()).deleteAll(anyList());
     }
 
     @Test
@@ -195,11 +370,22 @@ class OrderServiceTest {
 
         when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
 
-        orderService.deleteOrder(1L);
+        orderService.deleteOrder(1L, null);
 
         verify(orderRepository).findById(1L);
         verify(orderItemRepository).deleteAll(testOrder.getOrderItems());
         verify(orderRepository).delete(testOrder);
+        verify(salesSummaryService).recordOrderDeleted(testOrder);
+    }
+
+    @Test
+    @DisplayName("Should reject order deletion when expected version is stale")
+    void shouldRejectOrderDeletionWhenExpectedVersionIsStale() {
+        testOrder.setVersion(1L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        assertThrows(OrderVersionMismatchException.class, () -> orderService.deleteOrder(1L, Set.of(0L)));
+        verify(orderRepository, never()).delete(any(Order.class));
     }
 
     @Test
@@ -207,7 +393,7 @@ class OrderServiceTest {
     void shouldThrowOrderNotFoundExceptionWhenDeletingNonExistentOrder() {
         when(orderRepository.findById(anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(OrderNotFoundException.class, () -> orderService.deleteOrder(999L));
+        assertThrows(OrderNotFoundException.class, () -> orderService.deleteOrder(999L, null));
         verify(orderRepository).findById(999L);
         verify(orderRepository, never()).delete(any(Order.class));
     }
@@ -1,9 +1,16 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.ProductCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseBodyCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseRegion;
+import br.com.infnet.edur.usermanagement.cache.SingleFlight;
+import br.com.infnet.edur.usermanagement.dto.reponse.CursorPage;
 import br.com.infnet.edur.usermanagement.model.Product;
 import br.com.infnet.edur.usermanagement.repository.ProductRepository;
 import br.com.infnet.edur.usermanagement.utils.exceptions.ProductAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.ProductNotFoundException;
+import br.com.infnet.edur.usermanagement.utils.pagination.KeysetCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -11,14 +18,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -30,6 +42,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ResponseBodyCache responseBodyCache;
+
     @InjectMocks
     private ProductService productService;
 
@@ -37,6 +52,10 @@ class ProductServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(productService, "productCache",
+                new ProductCache(productRepository, 100, Duration.ofMinutes(10)));
+        ReflectionTestUtils.setField(productService, "singleFlight", new SingleFlight(new SimpleMeterRegistry()));
+
         testProduct = Product.builder()
                 .id(1L)
                 .name("Test Product")
@@ -59,6 +78,58 @@ class ProductServiceTest {
         verify(productRepository).findAll();
     }
 
+    @Test
+    @DisplayName("Should return first page with next cursor when more products exist")
+    void shouldReturnFirstPageWithNextCursorWhenMoreProductsExist() {
+        Product product1 = Product.builder().id(1L).name("Product 1").unitPrice(new BigDecimal("10.00")).build();
+        Product product2 = Product.builder().id(2L).name("Product 2").unitPrice(new BigDecimal("20.00")).build();
+        Product product3 = Product.builder().id(3L).name("Product 3").unitPrice(new BigDecimal("30.00")).build();
+
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(Arrays.asList(product1, product2, product3));
+
+        CursorPage<Product> result = productService.getProductsPage(null, 2);
+
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.isHasNext());
+        assertEquals(2L, KeysetCursor.decode(result.getNextCursor()));
+        verify(productRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3));
+    }
+
+    @Test
+    @DisplayName("Should return last page without next cursor")
+    void shouldReturnLastPageWithoutNextCursor() {
+        Product product3 = Product.builder().id(3L).name("Product 3").unitPrice(new BigDecimal("30.00")).build();
+
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3)))
+                .thenReturn(List.of(product3));
+
+        CursorPage<Product> result = productService.getProductsPage(KeysetCursor.encode(2L), 2);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should cap page size at maximum")
+    void shouldCapPageSizeAtMaximum() {
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(KeysetCursor.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
+
+        CursorPage<Product> result = productService.getProductsPage(null, 10_000);
+
+        assertTrue(result.getItems().isEmpty());
+        verify(productRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(KeysetCursor.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> productService.getProductsPage("not-a-cursor", 2));
+        verify(productRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    }
+
     @Test
     @DisplayName("Should get product by id successfully")
     void shouldGetProductByIdSuccessfully() {
@@ -81,6 +152,44 @@ class ProductServiceTest {
         verify(productRepository).findById(999L);
     }
 
+    @Test
+    @DisplayName("Should get products by ids in a single lookup")
+    void shouldGetProductsByIdsInSingleLookup() {
+        Product product2 = Product.builder().id(2L).name("Product 2").unitPrice(new BigDecimal("20.00")).build();
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(Arrays.asList(testProduct, product2));
+
+        Map<Long, Product> result = productService.getProductsByIds(List.of(1L, 2L));
+
+        assertEquals(2, result.size());
+        assertEquals(testProduct, result.get(1L));
+        assertEquals(product2, result.get(2L));
+        verify(productRepository).findAllById(anyIterable());
+        verify(productRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw ProductNotFoundException when any requested product is missing")
+    void shouldThrowProductNotFoundExceptionWhenAnyRequestedProductIsMissing() {
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(testProduct));
+
+        assertThrows(ProductNotFoundException.class, () -> productService.getProductsByIds(List.of(1L, 999L)));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated product lookups from cache")
+    void shouldServeRepeatedProductLookupsFromCache() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+
+        productService.getProductById(1L);
+        Product result = productService.getProductById(1L);
+
+        assertEquals(testProduct, result);
+        verify(productRepository, times(1)).findById(1L);
+        assertEquals(1, productService.getCacheStats().getHitCount());
+        assertEquals(1, productService.getCacheStats().getMissCount());
+    }
+
     @Test
     @DisplayName("Should create product successfully")
     void shouldCreateProductSuccessfully() {
@@ -98,6 +207,7 @@ class ProductServiceTest {
         assertEquals(newProduct.getUnitPrice(), result.getUnitPrice());
         verify(productRepository).existsByName(newProduct.getName());
         verify(productRepository).save(newProduct);
+        verify(responseBodyCache).invalidate(ResponseRegion.PRODUCTS);
     }
 
     @Test
@@ -136,6 +246,27 @@ class ProductServiceTest {
         verify(productRepository).save(any(Product.class));
     }
 
+    @Test
+    @DisplayName("Should reload product from repository after update")
+    void shouldReloadProductFromRepositoryAfterUpdate() {
+        Product updatedProduct = Product.builder()
+                .id(1L)
+                .name("Test Product")
+                .unitPrice(new BigDecimal("29.99"))
+                .build();
+
+        when(productRepository.findById(1L))
+                .thenReturn(Optional.of(testProduct))
+                .thenReturn(Optional.of(updatedProduct));
+        when(productRepository.save(any(Product.class))).thenReturn(updatedProduct);
+
+        productService.updateProduct(1L, updatedProduct);
+        Product result = productService.getProductById(1L);
+
+        assertEquals(new BigDecimal("29.99"), result.getUnitPrice());
+        verify(productRepository, times(2)).findById(1L);
+    }
+
     @Test
     @DisplayName("Should throw ProductAlreadyExistsException when updating with existing name")
     void shouldThrowProductAlreadyExistsExceptionWhenUpdatingWithExistingName() {
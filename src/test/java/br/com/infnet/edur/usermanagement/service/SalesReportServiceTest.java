@@ -0,0 +1,91 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.request.ReportGranularity;
+import br.com.infnet.edur.usermanagement.repository.CustomerDailySalesRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductDailySalesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalesReportService Tests")
+class SalesReportServiceTest {
+
+    @Mock
+    private ProductDailySalesRepository productDailySalesRepository;
+
+    @Mock
+    private CustomerDailySalesRepository customerDailySalesRepository;
+
+    @InjectMocks
+    private SalesReportService salesReportService;
+
+    @Test
+    @DisplayName("Should query an end-exclusive range covering the whole last day")
+    void shouldQueryAnEndExclusiveRangeCoveringTheWholeLastDay() {
+        salesReportService.getRevenueByCustomer(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), null);
+        salesReportService.getRevenueByPeriod(ReportGranularity.DAY, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        verify(customerDailySalesRepository).sumRevenueByCustomer(
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 2, 1),
+                Limit.of(SalesReportService.DEFAULT_RANKING_LIMIT));
+        verify(customerDailySalesRepository).sumRevenueByDay(
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 2, 1));
+    }
+
+    @Test
+    @DisplayName("Should default to an open start and today as end")
+    void shouldDefaultToAnOpenStartAndTodayAsEnd() {
+        salesReportService.getRevenueByProduct(null, null, null);
+
+        verify(productDailySalesRepository).sumRevenueByProduct(
+                LocalDate.EPOCH,
+                LocalDate.now().plusDays(1),
+                Limit.of(SalesReportService.DEFAULT_RANKING_LIMIT));
+    }
+
+    @Test
+    @DisplayName("Should use top limit default and cap requested limits")
+    void shouldUseTopLimitDefaultAndCapRequestedLimits() {
+        salesReportService.getTopProductsByQuantity(null, null, null);
+        salesReportService.getTopProductsByQuantity(null, null, 50_000);
+
+        verify(productDailySalesRepository).findTopProductsByQuantity(any(), any(), eq(Limit.of(SalesReportService.DEFAULT_TOP_LIMIT)));
+        verify(productDailySalesRepository).findTopProductsByQuantity(any(), any(), eq(Limit.of(SalesReportService.MAX_LIMIT)));
+    }
+
+    @Test
+    @DisplayName("Should dispatch period revenue by granularity")
+    void shouldDispatchPeriodRevenueByGranularity() {
+        salesReportService.getRevenueByPeriod(ReportGranularity.DAY, null, null);
+        salesReportService.getRevenueByPeriod(ReportGranularity.WEEK, null, null);
+        salesReportService.getRevenueByPeriod(ReportGranularity.MONTH, null, null);
+
+        verify(customerDailySalesRepository).sumRevenueByDay(any(), any());
+        verify(customerDailySalesRepository).sumRevenueByWeek(any(), any());
+        verify(customerDailySalesRepository).sumRevenueByMonth(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject inverted ranges and non-positive limits")
+    void shouldRejectInvertedRangesAndNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> salesReportService.getRevenueByCustomer(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> salesReportService.getTopProductsByQuantity(null, null, 0));
+
+        verifyNoInteractions(productDailySalesRepository, customerDailySalesRepository);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+package br.com.infnet.edur.usermanagement.service;
+
+import br.com.infnet.edur.usermanagement.dto.reponse.SalesSummaryCheckDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemInputDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderItemPatchDTO;
+import br.com.infnet.edur.usermanagement.dto.request.OrderPatchDTO;
+import br.com.infnet.edur.usermanagement.model.Customer;
+import br.com.infnet.edur.usermanagement.model.CustomerDailySales;
+import br.com.infnet.edur.usermanagement.model.CustomerDailySalesId;
+import br.com.infnet.edur.usermanagement.model.Order;
+import br.com.infnet.edur.usermanagement.model.OrderItem;
+import br.com.infnet.edur.usermanagement.model.Product;
+import br.com.infnet.edur.usermanagement.model.ProductDailySales;
+import br.com.infnet.edur.usermanagement.model.ProductDailySalesId;
+import br.com.infnet.edur.usermanagement.repository.CustomerDailySalesRepository;
+import br.com.infnet.edur.usermanagement.repository.ProductDailySalesRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Transactional
+@DisplayName("SalesSummaryService Tests")
+class SalesSummaryServiceTest {
+
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderItemService orderItemService;
+
+    @Autowired
+    private ProductDailySalesRepository productDailySalesRepository;
+
+    @Autowired
+    private CustomerDailySalesRepository customerDailySalesRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Customer alice;
+    private Customer bob;
+    private Product keyboard;
+    private Product cable;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        alice = persist(Customer.builder().name("Alice").email("alice.summary@example.com").phoneNumber("+5511933330000").build());
+        bob = persist(Customer.builder().name("Bob").email("bob.summary@example.com").phoneNumber("+5511944440000").build());
+        keyboard = persist(Product.builder().name("Summary Keyboard").unitPrice(new BigDecimal("10.00")).build());
+        cable = persist(Product.builder().name("Summary Cable").unitPrice(new BigDecimal("3.00")).build());
+        entityManager.flush();
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Should apply order creation deltas per product and customer day")
+    void shouldApplyOrderCreationDeltasPerProductAndCustomerDay() {
+        orderService.createOrder(orderFor(alice, item(keyboard, 2), item(cable, 1), item(keyboard, 1)));
+        orderService.createOrder(orderFor(alice, item(cable, 4)));
+
+        ProductDailySales keyboardSales = productSales(keyboard);
+        assertEquals(3L, keyboardSales.getQuantity());
+        assertEquals(0, new BigDecimal("30.00").compareTo(keyboardSales.getRevenue()));
+        assertEquals(5L, productSales(cable).getQuantity());
+
+        CustomerDailySales aliceSales = customerSales(alice);
+        assertEquals(2L, aliceSales.getOrderCount());
+        assertEquals(0, new BigDecimal("45.00").compareTo(aliceSales.getRevenue()));
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("Should move revenue between customers when an order is updated")
+    void shouldMoveRevenueBetweenCustomersWhenAnOrderIsUpdated() {
+        Order order = orderService.createOrder(orderFor(alice, item(keyboard, 2)));
+        entityManager.flush();
+        entityManager.clear();
+
+        orderService.updateOrder(order.getId(), orderFor(bob, item(cable, 3)), null);
+
+        assertEquals(0L, customerSales(alice).getOrderCount());
+        assertEquals(1L, customerSales(bob).getOrderCount());
+        assertEquals(0, new BigDecimal("9.00").compareTo(customerSales(bob).getRevenue()));
+        assertEquals(0L, productSales(keyboard).getQuantity());
+        assertEquals(3L, productSales(cable).getQuantity());
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("Should apply only changed lines when an order is patched")
+    void shouldApplyOnlyChangedLinesWhenAnOrderIsPatched() {
+        Order order = orderService.createOrder(orderFor(alice, item(keyboard, 2), item(cable, 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        orderService.patchOrder(order.getId(), new OrderPatchDTO(null, List.of(new OrderItemPatchDTO(cable.getId(), 0),
+                new OrderItemPatchDTO(keyboard.getId(), 4))), null);
+
+        assertEquals(4L, productSales(keyboard).getQuantity());
+        assertEquals(0L, productSales(cable).getQuantity());
+        assertEquals(1L, customerSales(alice).getOrderCount());
+        assertEquals(0, new BigDecimal("40.00").compareTo(customerSales(alice).getRevenue()));
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("Should apply item mutations and order deletion as deltas")
+    void shouldApplyItemMutationsAndOrderDeletionAsDeltas() {
+        Order order = orderService.createOrder(orderFor(bob, item(keyboard, 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        OrderItem added = orderItemService.createOrderItem(orderService.getActiveOrder(order.getId()), new OrderItemInputDTO(cable.getId(), 2));
+        entityManager.flush();
+        entityManager.clear();
+        orderItemService.updateOrderItem(added.getId(), new OrderItemInputDTO(keyboard.getId(), 5));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(6L, productSales(keyboard).getQuantity());
+        assertEquals(0L, productSales(cable).getQuantity());
+        assertEquals(0, new BigDecimal("60.00").compareTo(customerSales(bob).getRevenue()));
+        assertConsistent();
+
+        orderItemService.deleteOrderItem(added.getId());
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(1L, productSales(keyboard).getQuantity());
+        assertConsistent();
+
+        orderService.deleteOrder(order.getId(), null);
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(0L, customerSales(bob).getOrderCount());
+        assertEquals(0, customerSales(bob).getRevenue().signum());
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("Should report drift and repair it with a rebuild")
+    void shouldReportDriftAndRepairItWithARebuild() {
+        orderService.createOrder(orderFor(alice, item(keyboard, 2)));
+        entityManager.flush();
+        jdbcTemplate.update("delete from product_daily_sales where product_id = ?", keyboard.getId());
+        jdbcTemplate.update("update customer_daily_sales set order_count = 7 where customer_id = ?", alice.getId());
+
+        SalesSummaryCheckDTO drifted = salesSummaryService.checkConsistency();
+        assertFalse(drifted.isConsistent());
+        assertEquals(2, drifted.getMismatchCount());
+        assertTrue(drifted.getMismatches().stream().anyMatch(mismatch -> mismatch.startsWith("product")));
+        assertTrue(drifted.getMismatches().stream().anyMatch(mismatch -> mismatch.startsWith("customer")));
+
+        salesSummaryService.rebuild();
+        entityManager.clear();
+
+        assertEquals(2L, productSales(keyboard).getQuantity());
+        assertEquals(1L, customerSales(alice).getOrderCount());
+        assertConsistent();
+    }
+
+    private void assertConsistent() {
+        entityManager.flush();
+        SalesSummaryCheckDTO check = salesSummaryService.checkConsistency();
+        assertTrue(check.isConsistent(), () -> String.join("\n", check.getMismatches()));
+    }
+
+    private ProductDailySales productSales(Product product) {
+        return productDailySalesRepository.findById(new ProductDailySalesId(product.getId(), today)).orElseThrow();
+    }
+
+    private CustomerDailySales customerSales(Customer customer) {
+        return customerDailySalesRepository.findById(new CustomerDailySalesId(customer.getId(), today)).orElseThrow();
+    }
+
+    private OrderInputDTO orderFor(Customer customer, OrderItemInputDTO... items) {
+        return new OrderInputDTO(customer.getId(), List.of(items));
+    }
+
+    private OrderItemInputDTO item(Product product, int quantity) {
+        return new OrderItemInputDTO(product.getId(), quantity);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
\ No newline at end of file
@@ -1,7 +1,12 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.ResponseBodyCache;
+import br.com.infnet.edur.usermanagement.cache.ResponseRegion;
+import br.com.infnet.edur.usermanagement.cache.UniqueField;
+import br.com.infnet.edur.usermanagement.cache.UniqueFieldFilters;
 import br.com.infnet.edur.usermanagement.model.Supplier;
 import br.com.infnet.edur.usermanagement.repository.SupplierRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.NamedUniqueFieldsView;
 import br.com.infnet.edur.usermanagement.utils.exceptions.SupplierAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.SupplierNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +35,12 @@ class SupplierServiceTest {
     @Mock
     private SupplierRepository supplierRepository;
 
+    @Mock
+    private UniqueFieldFilters uniqueFieldFilters;
+
+    @Mock
+    private ResponseBodyCache responseBodyCache;
+
     @InjectMocks
     private SupplierService supplierService;
 
@@ -90,38 +102,66 @@ class SupplierServiceTest {
                 .phoneNumber("+9876543210")
                 .build();
 
-        when(supplierRepository.existsByEmail(anyString())).thenReturn(false);
-        when(supplierRepository.existsByPhoneNumber(anyString())).thenReturn(false);
+        when(supplierRepository.findUniqueFieldConflicts(null, null, newSupplier.getEmail(), newSupplier.getPhoneNumber()))
+                .thenReturn(List.of());
         when(supplierRepository.save(any(Supplier.class))).thenReturn(newSupplier);
 
         Supplier result = supplierService.createSupplier(newSupplier);
 
         assertEquals(newSupplier.getName(), result.getName());
         assertEquals(newSupplier.getEmail(), result.getEmail());
-        verify(supplierRepository).existsByEmail(newSupplier.getEmail());
-        verify(supplierRepository).existsByPhoneNumber(newSupplier.getPhoneNumber());
+        verify(supplierRepository).findUniqueFieldConflicts(null, null, newSupplier.getEmail(), newSupplier.getPhoneNumber());
+        verify(responseBodyCache).invalidate(ResponseRegion.SUPPLIERS);
         verify(supplierRepository).save(newSupplier);
     }
 
+    @Test
+    @DisplayName("Should skip uniqueness query when filters rule out every value")
+    void shouldSkipUniquenessQueryWhenFiltersRuleOutEveryValue() {
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.SUPPLIER_EMAIL, testSupplier.getEmail())).thenReturn(true);
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.SUPPLIER_PHONE_NUMBER, testSupplier.getPhoneNumber())).thenReturn(true);
+        when(supplierRepository.save(any(Supplier.class))).thenReturn(testSupplier);
+
+        Supplier result = supplierService.createSupplier(testSupplier);
+
+        assertEquals(testSupplier.getEmail(), result.getEmail());
+        verify(supplierRepository, never()).findUniqueFieldConflicts(any(), any(), anyString(), anyString());
+        verify(uniqueFieldFilters).record(UniqueField.SUPPLIER_EMAIL, testSupplier.getEmail());
+        verify(uniqueFieldFilters).record(UniqueField.SUPPLIER_PHONE_NUMBER, testSupplier.getPhoneNumber());
+    }
+
+    @Test
+    @DisplayName("Should answer existsByEmail from filter when value is definitely absent")
+    void shouldAnswerExistsByEmailFromFilterWhenValueIsDefinitelyAbsent() {
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.SUPPLIER_EMAIL, "new@example.com")).thenReturn(true);
+
+        boolean result = supplierService.existsByEmail("new@example.com");
+
+        assertFalse(result);
+        verify(supplierRepository, never()).existsByEmail(anyString());
+    }
+
     @Test
     @DisplayName("Should throw SupplierAlreadyExistsException when email exists")
     void shouldThrowSupplierAlreadyExistsExceptionWhenEmailExists() {
-        when(supplierRepository.existsByEmail(testSupplier.getEmail())).thenReturn(true);
+        when(supplierRepository.findUniqueFieldConflicts(null, null, testSupplier.getEmail(), testSupplier.getPhoneNumber()))
+                .thenReturn(List.of(conflict("Other", testSupplier.getEmail(), "+5555555555")));
 
-        assertThrows(SupplierAlreadyExistsException.class, () -> supplierService.createSupplier(testSupplier));
-        verify(supplierRepository).existsByEmail(testSupplier.getEmail());
+        SupplierAlreadyExistsException exception = assertThrows(SupplierAlreadyExistsException.class, () -> supplierService.createSupplier(testSupplier));
+        assertTrue(exception.getMessage().contains("email"));
+        verify(supplierRepository).findUniqueFieldConflicts(null, null, testSupplier.getEmail(), testSupplier.getPhoneNumber());
         verify(supplierRepository, never()).save(any(Supplier.class));
     }
 
     @Test
     @DisplayName("Should throw SupplierAlreadyExistsException when phone number exists")
     void shouldThrowSupplierAlreadyExistsExceptionWhenPhoneNumberExists() {
-        when(supplierRepository.existsByEmail(testSupplier.getEmail())).thenReturn(false);
-        when(supplierRepository.existsByPhoneNumber(testSupplier.getPhoneNumber())).thenReturn(true);
+        when(supplierRepository.findUniqueFieldConflicts(null, null, testSupplier.getEmail(), testSupplier.getPhoneNumber()))
+                .thenReturn(List.of(conflict("Other", "other@example.com", testSupplier.getPhoneNumber())));
 
-        assertThrows(SupplierAlreadyExistsException.class, () -> supplierService.createSupplier(testSupplier));
-        verify(supplierRepository).existsByEmail(testSupplier.getEmail());
-        verify(supplierRepository).existsByPhoneNumber(testSupplier.getPhoneNumber());
+        SupplierAlreadyExistsException exception = assertThrows(SupplierAlreadyExistsException.class, () -> supplierService.createSupplier(testSupplier));
+        assertTrue(exception.getMessage().contains("phone number"));
+        verify(supplierRepository).findUniqueFieldConflicts(null, null, testSupplier.getEmail(), testSupplier.getPhoneNumber());
         verify(supplierRepository, never()).save(any(Supplier.class));
     }
 
@@ -142,9 +182,8 @@ class SupplierServiceTest {
                 .build();
 
         when(supplierRepository.findById(1L)).thenReturn(Optional.of(existingSupplier));
-        when(supplierRepository.existsByName("Updated Supplier")).thenReturn(false);
-        when(supplierRepository.existsByEmail("updated@example.com")).thenReturn(false);
-        when(supplierRepository.existsByPhoneNumber("+9999999999")).thenReturn(false);
+        when(supplierRepository.findUniqueFieldConflicts(1L, "Updated Supplier", "updated@example.com", "+9999999999"))
+                .thenReturn(List.of());
         when(supplierRepository.save(any(Supplier.class))).thenReturn(updatedSupplierData);
 
         Supplier result = supplierService.updateSupplier(1L, updatedSupplierData);
@@ -172,11 +211,12 @@ class SupplierServiceTest {
                 .build();
 
         when(supplierRepository.findById(1L)).thenReturn(Optional.of(existingSupplier));
-        when(supplierRepository.existsByName("Existing Supplier")).thenReturn(true);
+        when(supplierRepository.findUniqueFieldConflicts(1L, "Existing Supplier", null, null))
+                .thenReturn(List.of(conflict("Existing Supplier", "someone@example.com", "+5555555555")));
 
         assertThrows(SupplierAlreadyExistsException.class, () -> supplierService.updateSupplier(1L, updatedSupplierData));
         verify(supplierRepository).findById(1L);
-        verify(supplierRepository).existsByName("Existing Supplier");
+        verify(supplierRepository).findUniqueFieldConflicts(1L, "Existing Supplier", null, null);
         verify(supplierRepository, never()).save(any(Supplier.class));
     }
 
@@ -261,5 +301,37 @@ class SupplierServiceTest {
         verify(supplierRepository, never()).existsByName(anyString());
         verify(supplierRepository, never()).existsByEmail(anyString());
         verify(supplierRepository, never()).existsByPhoneNumber(anyString());
+        verify(supplierRepository, never()).findUniqueFieldConflicts(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should map unique constraint violation to SupplierAlreadyExistsException")
+    void shouldMapUniqueConstraintViolationToSupplierAlreadyExistsException() {
+        when(supplierRepository.findUniqueFieldConflicts(null, null, testSupplier.getEmail(), testSupplier.getPhoneNumber()))
+                .thenReturn(List.of());
+        when(supplierRepository.save(any(Supplier.class))).thenThrow(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_SUPPLIERS_EMAIL_INDEX_1 ON PUBLIC.SUPPLIERS(EMAIL NULLS FIRST)\""));
+
+        SupplierAlreadyExistsException exception = assertThrows(SupplierAlreadyExistsException.class, () -> supplierService.createSupplier(testSupplier));
+        assertTrue(exception.getMessage().contains("email"));
+    }
+
+    private static NamedUniqueFieldsView conflict(String name, String email, String phoneNumber) {
+        return new NamedUniqueFieldsView() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return phoneNumber;
+            }
+        };
     }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package br.com.infnet.edur.usermanagement.service;
 
+import br.com.infnet.edur.usermanagement.cache.UniqueField;
+import br.com.infnet.edur.usermanagement.cache.UniqueFieldFilters;
 import br.com.infnet.edur.usermanagement.model.User;
 import br.com.infnet.edur.usermanagement.repository.UserRepository;
+import br.com.infnet.edur.usermanagement.repository.projection.UniqueFieldsView;
 import br.com.infnet.edur.usermanagement.utils.exceptions.UserAlreadyExistsException;
 import br.com.infnet.edur.usermanagement.utils.exceptions.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +33,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UniqueFieldFilters uniqueFieldFilters;
+
     @InjectMocks
     private UserService userService;
 
@@ -91,37 +98,64 @@ class UserServiceTest {
                 .phoneNumber("+9876543210")
                 .build();
 
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.existsByPhoneNumber(anyString())).thenReturn(false);
+        when(userRepository.findUniqueFieldConflicts(null, newUser.getEmail(), newUser.getPhoneNumber()))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class))).thenReturn(newUser);
 
         User result = userService.createUser(newUser);
 
         assertEquals(newUser.getEmail(), result.getEmail());
-        verify(userRepository).existsByEmail(newUser.getEmail());
-        verify(userRepository).existsByPhoneNumber(newUser.getPhoneNumber());
+        verify(userRepository).findUniqueFieldConflicts(null, newUser.getEmail(), newUser.getPhoneNumber());
         verify(userRepository).save(newUser);
     }
 
+    @Test
+    @DisplayName("Should skip uniqueness query when filters rule out every value")
+    void shouldSkipUniquenessQueryWhenFiltersRuleOutEveryValue() {
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.USER_EMAIL, testUser.getEmail())).thenReturn(true);
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.USER_PHONE_NUMBER, testUser.getPhoneNumber())).thenReturn(true);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        User result = userService.createUser(testUser);
+
+        assertEquals(testUser.getEmail(), result.getEmail());
+        verify(userRepository, never()).findUniqueFieldConflicts(any(), anyString(), anyString());
+        verify(uniqueFieldFilters).record(UniqueField.USER_EMAIL, testUser.getEmail());
+        verify(uniqueFieldFilters).record(UniqueField.USER_PHONE_NUMBER, testUser.getPhoneNumber());
+    }
+
+    @Test
+    @DisplayName("Should answer existsByEmail from filter when value is definitely absent")
+    void shouldAnswerExistsByEmailFromFilterWhenValueIsDefinitelyAbsent() {
+        when(uniqueFieldFilters.isDefinitelyAbsent(UniqueField.USER_EMAIL, "new@example.com")).thenReturn(true);
+
+        boolean result = userService.existsByEmail("new@example.com");
+
+        assertFalse(result);
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
     @Test
     @DisplayName("Should throw UserAlreadyExistsException when email exists")
     void shouldThrowUserAlreadyExistsExceptionWhenEmailExists() {
-        when(userRepository.existsByEmail(testUser.getEmail())).thenReturn(true);
+        when(userRepository.findUniqueFieldConflicts(null, testUser.getEmail(), testUser.getPhoneNumber()))
+                .thenReturn(List.of(conflict(testUser.getEmail(), "+5555555555")));
 
-        assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(testUser));
-        verify(userRepository).existsByEmail(testUser.getEmail());
+        UserAlreadyExistsException exception = assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(testUser));
+        assertTrue(exception.getMessage().contains("email"));
+        verify(userRepository).findUniqueFieldConflicts(null, testUser.getEmail(), testUser.getPhoneNumber());
         verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
     @DisplayName("Should throw UserAlreadyExistsException when phone number exists")
     void shouldThrowUserAlreadyExistsExceptionWhenPhoneNumberExists() {
-        when(userRepository.existsByEmail(testUser.getEmail())).thenReturn(false);
-        when(userRepository.existsByPhoneNumber(testUser.getPhoneNumber())).thenReturn(true);
+        when(userRepository.findUniqueFieldConflicts(null, testUser.getEmail(), testUser.getPhoneNumber()))
+                .thenReturn(List.of(conflict("other@example.com", testUser.getPhoneNumber())));
 
-        assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(testUser));
-        verify(userRepository).existsByEmail(testUser.getEmail());
-        verify(userRepository).existsByPhoneNumber(testUser.getPhoneNumber());
+        UserAlreadyExistsException exception = assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(testUser));
+        assertTrue(exception.getMessage().contains("phone number"));
+        verify(userRepository).findUniqueFieldConflicts(null, testUser.getEmail(), testUser.getPhoneNumber());
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -144,8 +178,8 @@ class UserServiceTest {
                 .build();
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
-        when(userRepository.existsByPhoneNumber("+9999999999")).thenReturn(false);
+        when(userRepository.findUniqueFieldConflicts(1L, "new@example.com", "+9999999999"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class))).thenReturn(updatedUserData);
 
         User result = userService.updateUser(1L, updatedUserData);
@@ -170,11 +204,12 @@ class UserServiceTest {
                 .build();
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.existsByEmail("existing@example.com")).thenReturn(true);
+        when(userRepository.findUniqueFieldConflicts(1L, "existing@example.com", null))
+                .thenReturn(List.of(conflict("existing@example.com", "+5555555555")));
 
         assertThrows(UserAlreadyExistsException.class, () -> userService.updateUser(1L, updatedUserData));
         verify(userRepository).findById(1L);
-        verify(userRepository).existsByEmail("existing@example.com");
+        verify(userRepository).findUniqueFieldConflicts(1L, "existing@example.com", null);
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -270,5 +305,32 @@ class UserServiceTest {
         verify(userRepository).findById(1L);
         verify(userRepository).save(any(User.class));
         verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).findUniqueFieldConflicts(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should map unique constraint violation to UserAlreadyExistsException")
+    void shouldMapUniqueConstraintViolationToUserAlreadyExistsException() {
+        when(userRepository.findUniqueFieldConflicts(null, testUser.getEmail(), testUser.getPhoneNumber()))
+                .thenReturn(List.of());
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_USERS_PHONE_NUMBER_INDEX_4 ON PUBLIC.USERS(PHONE_NUMBER NULLS FIRST)\""));
+
+        UserAlreadyExistsException exception = assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(testUser));
+        assertTrue(exception.getMessage().contains("phone number"));
+    }
+
+    private static UniqueFieldsView conflict(String email, String phoneNumber) {
+        return new UniqueFieldsView() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return phoneNumber;
+            }
+        };
     }
 }
\ No newline at end of file